@@ -47,6 +47,7 @@ public class TagTweets {
 
     private final BorderPane root;
     private final HBox hWordle = new HBox();
+    private volatile Wordle wordle;
 
     public TagTweets(final BorderPane root) {
         this.root = root;
@@ -64,7 +65,7 @@ public class TagTweets {
 
         LOGGER.trace("** create wordle");
 
-        final Wordle wordle = new Wordle();
+        wordle = new Wordle();
         hWordle.getChildren().setAll(wordle);
         wordle.prefWidthProperty().bind(hWordle.widthProperty());
         wordle.prefHeightProperty().bind(hWordle.heightProperty());
@@ -72,4 +73,18 @@ public class TagTweets {
         LOGGER.trace("** create wordle done");
         LOGGER.trace("** 2. Starting new Tweets search for {}", searchText);
     }
+
+    /**
+     * Requests the steps shown by the {@link Wordle} to be reloaded from the
+     * configuration without restarting the application.
+     */
+    public void reloadSteps() {
+        final Wordle currentWordle = wordle;
+
+        if (null == currentWordle) {
+            LOGGER.warn("Ignoring reload of steps as no Wordle has been started yet");
+        } else {
+            currentWordle.reloadSteps();
+        }
+    }
 }
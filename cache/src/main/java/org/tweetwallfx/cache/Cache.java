@@ -23,8 +23,12 @@
  */
 package org.tweetwallfx.cache;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * A {@link Cache} is a Map-like data structure that provides temporary storage
@@ -36,9 +40,35 @@ import java.util.Set;
 public class Cache<K, V> {
 
     private final org.ehcache.Cache<K, V> cache;
+    private final CacheMetrics metrics;
+    private final HotKeys hotKeys;
 
-    Cache(final org.ehcache.Cache<K, V> cache) {
+    Cache(final org.ehcache.Cache<K, V> cache, final CacheMetrics metrics, final HotKeys hotKeys) {
         this.cache = cache;
+        this.metrics = metrics;
+        this.hotKeys = hotKeys;
+    }
+
+    /**
+     * Retrieves the metrics of this {@link Cache}. They are shared by all
+     * {@link Cache} instances of the same alias.
+     *
+     * @return the metrics of this {@link Cache}
+     */
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Records the duration of loading a value for this {@link Cache} from its
+     * origin.
+     *
+     * @param nanos the duration of the load in nanoseconds
+     *
+     * @param succeeded flag indicating if the load produced a value
+     */
+    void recordLoad(final long nanos, final boolean succeeded) {
+        metrics.recordLoad(nanos, succeeded);
     }
 
     /**
@@ -51,7 +81,64 @@ public class Cache<K, V> {
      * @throws NullPointerException if the key is null
      */
     public V get(final K key) {
-        return cache.get(key);
+        final long start = System.nanoTime();
+
+        final V value;
+
+        try {
+            value = cache.get(key);
+        } finally {
+            metrics.recordGet(System.nanoTime() - start);
+        }
+
+        if (null != value) {
+            hotKeys.record(key);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets an entry from the cache. In case no entry exists the value is
+     * computed using the {@code loader} and then added to the cache via
+     * {@link #putIfAbsent(java.lang.Object, java.lang.Object)}. Should a value
+     * for the key have been added in the meantime that value is returned
+     * instead and the computed value is discarded.
+     *
+     * <p>
+     * Looking up, computing and adding the value are not one atomic operation.
+     * The {@code loader} runs without any lock and may therefore be invoked
+     * concurrently for the same key. Callers that need to prevent this have
+     * to coalesce the loads themselves.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @param loader the function computing the value for a key that has no
+     * entry, may return {@code null} to indicate that no entry is to be added
+     *
+     * @return the existing or computed value, or null in case the
+     * {@code loader} returned {@code null}
+     *
+     * @throws NullPointerException in case either the key or the loader are
+     * {@code null}
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader, "loader must not be null");
+        final V value = get(key);
+
+        if (null != value) {
+            return value;
+        }
+
+        final V computedValue = loader.apply(key);
+
+        if (null == computedValue) {
+            return null;
+        }
+
+        final V concurrentValue = cache.putIfAbsent(key, computedValue);
+        hotKeys.record(key);
+        return null == concurrentValue ? computedValue : concurrentValue;
     }
 
     /**
@@ -63,7 +150,55 @@ public class Cache<K, V> {
      * @return Map of entries that were found for the given keys
      */
     public Map<K, V> getAll(final Set<? extends K> keys) {
-        return cache.getAll(keys);
+        final Map<K, V> entries = new HashMap<>(cache.getAll(keys));
+        entries.values().removeIf(Objects::isNull);
+        entries.keySet().forEach(hotKeys::record);
+        return entries;
+    }
+
+    /**
+     * Gets a collection of entries from the {@link Cache} with a single bulk
+     * access. The values of keys without an entry are computed by a single
+     * call of the {@code loader} and added to the cache with a single bulk
+     * access as well.
+     *
+     * @param keys The keys whose associated values are to be returned
+     *
+     * @param loader the function computing the values for the keys without an
+     * entry, keys missing in its result do not get an entry
+     *
+     * @return Map of the existing and computed entries for the given keys
+     *
+     * @throws NullPointerException in case either the keys, any of its entries
+     * or the loader are {@code null}
+     */
+    public Map<K, V> getAll(final Set<? extends K> keys, final Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> loader) {
+        Objects.requireNonNull(loader, "loader must not be null");
+        final Map<K, V> entries = new HashMap<>(cache.getAll(keys));
+        final Set<K> missingKeys = new HashSet<>();
+
+        entries.forEach((key, value) -> {
+            if (null == value) {
+                missingKeys.add(key);
+            }
+        });
+
+        if (missingKeys.isEmpty()) {
+            entries.keySet().forEach(hotKeys::record);
+            return entries;
+        }
+
+        final Map<K, V> computedEntries = new HashMap<>();
+        loader.apply(Set.copyOf(missingKeys)).forEach((key, value) -> {
+            if (missingKeys.contains(key) && null != value) {
+                computedEntries.put(key, value);
+            }
+        });
+        entries.keySet().removeAll(missingKeys);
+        cache.putAll(computedEntries);
+        entries.putAll(computedEntries);
+        entries.keySet().forEach(hotKeys::record);
+        return entries;
     }
 
     /**
@@ -95,6 +230,7 @@ public class Cache<K, V> {
      */
     public void put(final K key, final V value) {
         cache.put(key, value);
+        hotKeys.record(key);
     }
 
     /**
@@ -117,13 +253,14 @@ public class Cache<K, V> {
      *
      * @param value value to be associated with the specified key
      *
-     * @return true if a value was set.
+     * @return true if a value was set, false if the key was already
+     * associated with a value
      *
      * @throws NullPointerException in case either the key or the value are
      * {@code null}
      */
     public boolean putIfAbsent(final K key, final V value) {
-        return null != cache.putIfAbsent(key, value);
+        return null == cache.putIfAbsent(key, value);
     }
 
     /**
@@ -31,6 +31,8 @@ import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.ehcache.config.units.EntryUnit;
 import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.DefaultStatisticsService;
 import org.ehcache.event.EventFiring;
 import org.ehcache.event.EventOrdering;
 import org.ehcache.event.EventType;
@@ -42,11 +44,19 @@ import org.tweetwallfx.cache.CacheSettings.CacheResource;
 import org.tweetwallfx.config.Configuration;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public final class CacheManagerProvider {
 
@@ -56,8 +66,20 @@ public final class CacheManagerProvider {
      */
     private static final Collection<String> LISTENERS_ADDED_TO_CACHES = new HashSet<>(4);
     private static final Logger LOG = LoggerFactory.getLogger(CacheManagerProvider.class);
+    private static final Map<String, CacheMetrics> METRICS = new ConcurrentHashMap<>();
+    private static final Collection<Runnable> SHUTDOWN_ACTIONS = new CopyOnWriteArrayList<>();
+    private static final StatisticsService STATISTICS_SERVICE = new DefaultStatisticsService();
+    private static final CacheSettings CACHE_SETTINGS = Configuration.getInstance().getConfigTyped(CacheSettings.CONFIG_KEY, CacheSettings.class);
+    private static final CacheWarmStart WARM_START = new CacheWarmStart(
+            Path.of(System.getProperty("user.home"), CACHE_SETTINGS.persistenceDirectoryName() + "-warm-start"),
+            CACHE_SETTINGS.caches());
     private static final org.ehcache.CacheManager CACHE_MANAGER = createCacheManager();
 
+    static {
+        // preloading only once the cache manager is published neither delays the class initialization nor waits for it
+        Thread.ofVirtual().name("cache-warm-start").start(() -> warmStart(CACHE_MANAGER));
+    }
+
     private CacheManagerProvider() {
         // prevent instantiation
     }
@@ -76,18 +98,61 @@ public final class CacheManagerProvider {
             );
         }
 
-        return new Cache<>(cache);
+        return new Cache<>(cache, getMetrics(alias), WARM_START.hotKeys(alias));
+    }
+
+    /**
+     * Registers an action to be run on shutdown before the caches are closed,
+     * e.g. stopping the loading of content into them.
+     *
+     * @param action the action to run on shutdown
+     */
+    static void runOnShutdown(final Runnable action) {
+        SHUTDOWN_ACTIONS.add(Objects.requireNonNull(action, "action must not be null"));
+    }
+
+    /**
+     * Retrieves the metrics of the cache registered under the given alias.
+     *
+     * @param alias the alias of the cache
+     *
+     * @return the metrics of the cache
+     *
+     * @throws IllegalArgumentException in case no cache is registered under
+     * the given alias
+     */
+    public static CacheMetrics getMetrics(final String alias) {
+        if (!CACHE_MANAGER.getRuntimeConfiguration().getCacheConfigurations().containsKey(alias)) {
+            throw new IllegalArgumentException("No cache named '" + alias + "' exists!");
+        }
+
+        return METRICS.computeIfAbsent(alias, a -> new CacheMetrics(a, () -> STATISTICS_SERVICE.getCacheStatistics(a)));
+    }
+
+    /**
+     * Takes a snapshot of the metrics of all registered caches, e.g. for
+     * exporting them as JSON or logging them.
+     *
+     * @return the snapshots of the metrics keyed by cache alias
+     */
+    public static Map<String, CacheMetrics.Snapshot> getMetricsSnapshots() {
+        final Map<String, CacheMetrics.Snapshot> snapshots = new TreeMap<>();
+
+        CACHE_MANAGER.getRuntimeConfiguration().getCacheConfigurations().keySet()
+                .forEach(alias -> snapshots.put(alias, getMetrics(alias).snapshot()));
+
+        return snapshots;
     }
 
     private static org.ehcache.CacheManager createCacheManager() {
-        final CacheSettings cacheSettings = Configuration.getInstance().getConfigTyped(CacheSettings.CONFIG_KEY, CacheSettings.class);
         CacheManagerBuilder<? extends org.ehcache.CacheManager> cacheManagerBuilder = CacheManagerBuilder
                 .newCacheManagerBuilder()
+                .using(STATISTICS_SERVICE)
                 .with(new CacheManagerPersistenceConfiguration(new File(
                         System.getProperty("user.home"),
-                        cacheSettings.persistenceDirectoryName())));
+                        CACHE_SETTINGS.persistenceDirectoryName())));
 
-        for (final Map.Entry<String, CacheSettings.CacheSetting> entry : cacheSettings.caches().entrySet()) {
+        for (final Map.Entry<String, CacheSettings.CacheSetting> entry : CACHE_SETTINGS.caches().entrySet()) {
             final String alias = entry.getKey();
             final CacheSettings.CacheSetting cacheSetting = entry.getValue();
 
@@ -101,6 +166,11 @@ public final class CacheManagerProvider {
                 builder = builder.withExpiry(createExpiryPolicy(cacheSetting.expiry()));
             }
 
+            if (URLContent.class.getName().equals(cacheSetting.valueType())) {
+                // the heap is sized in entries so large content is preferably evicted to bound the heap usage
+                builder = builder.withEvictionAdvisor(new URLContentEvictionAdvisor());
+            }
+
             cacheManagerBuilder = cacheManagerBuilder.withCache(alias, builder);
         }
 
@@ -108,11 +178,40 @@ public final class CacheManagerProvider {
 
         LOG.info("EHCaches: " + cacheManager.getRuntimeConfiguration().getCacheConfigurations().keySet());
         cacheManager.getRuntimeConfiguration().getCacheConfigurations().keySet().forEach(s -> LOG.info("EHCache: " + s));
-        Runtime.getRuntime().addShutdownHook(new Thread(cacheManager::close, "cache-shutdown"));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            SHUTDOWN_ACTIONS.forEach(Runnable::run);
+            getMetricsSnapshots().values().forEach(snapshot -> LOG.info("EHCache metrics: {}", snapshot));
+            WARM_START.save();
+            cacheManager.close();
+        }, "cache-shutdown"));
 
         return cacheManager;
     }
 
+    /**
+     * Preloads the hot keys of the previous run into the caches of
+     * {@code cacheManager}, reporting a preload not completing within the
+     * configured timeout while it continues.
+     *
+     * @param cacheManager the cache manager whose caches are preloaded
+     */
+    private static void warmStart(final org.ehcache.CacheManager cacheManager) {
+        final CompletableFuture<Void> preload = WARM_START.preload(alias -> cacheManager.getCache(
+                alias,
+                String.class,
+                loadClass(CACHE_SETTINGS.caches().get(alias).valueType())));
+
+        try {
+            preload.get(CACHE_SETTINGS.warmStartTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (final TimeoutException te) {
+            LOG.warn("EHCache warm start did not complete within {}s, continuing", CACHE_SETTINGS.warmStartTimeoutSeconds());
+        } catch (final ExecutionException ee) {
+            LOG.warn("EHCache warm start failed", ee.getCause());
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static Class<?> loadClass(final String className) {
         Objects.requireNonNull(className, "className must not be null!");
 
@@ -136,6 +235,7 @@ public final class CacheManagerProvider {
     private static ResourcePoolsBuilder addResource(final ResourcePoolsBuilder builder, final CacheResource cacheResource) {
         return switch (cacheResource.type()) {
             case DISK -> builder.disk(cacheResource.amount(), convert(cacheResource.unit()), true);
+            // sizing the heap in bytes requires ehcache's sizeof engine which does not work on current JDKs
             case HEAP -> builder.heap(cacheResource.amount(), EntryUnit.ENTRIES);
             case OFFHEAP -> builder.offheap(cacheResource.amount(), convert(cacheResource.unit()));
         };
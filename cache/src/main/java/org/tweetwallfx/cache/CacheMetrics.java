@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.ehcache.core.statistics.CacheStatistics;
+
+/**
+ * Metrics of the cache registered under an alias with the
+ * {@link CacheManagerProvider}. Counts of hits, misses, puts, removals,
+ * evictions and expirations as well as the usage of the tiers are provided by
+ * ehcache while the latencies of {@link Cache#get(java.lang.Object)} and of
+ * the loads performed by {@link URLContentCacheBase} are measured on top.
+ */
+public final class CacheMetrics {
+
+    private final String alias;
+    private final Supplier<CacheStatistics> cacheStatistics;
+    private final LatencyHistogram getLatency = new LatencyHistogram();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    private final LongAdder failedLoads = new LongAdder();
+
+    CacheMetrics(final String alias, final Supplier<CacheStatistics> cacheStatistics) {
+        this.alias = Objects.requireNonNull(alias, "alias must not be null");
+        this.cacheStatistics = Objects.requireNonNull(cacheStatistics, "cacheStatistics must not be null");
+    }
+
+    /**
+     * Distribution of latencies.
+     *
+     * <p>
+     * Param {@code count} the number of measured operations
+     *
+     * <p>
+     * Param {@code mean} the mean latency
+     *
+     * <p>
+     * Param {@code p50} the upper bound of the median latency
+     *
+     * <p>
+     * Param {@code p90} the upper bound of the 90th percentile latency
+     *
+     * <p>
+     * Param {@code p99} the upper bound of the 99th percentile latency
+     *
+     * <p>
+     * Param {@code max} the maximum latency
+     */
+    public record Latency(
+            long count,
+            Duration mean,
+            Duration p50,
+            Duration p90,
+            Duration p99,
+            Duration max) {
+    }
+
+    /**
+     * Usage of a storage tier (e.g. {@code OnHeap}, {@code OffHeap} or
+     * {@code Disk}) of a cache.
+     *
+     * <p>
+     * Param {@code mappings} the number of entries stored in the tier
+     *
+     * <p>
+     * Param {@code occupiedBytes} the number of bytes occupied by the entries
+     * or {@code -1} if the tier does not measure it
+     *
+     * <p>
+     * Param {@code allocatedBytes} the number of bytes allocated by the tier or
+     * {@code -1} if the tier does not measure it
+     *
+     * <p>
+     * Param {@code hits} the number of hits in the tier
+     *
+     * <p>
+     * Param {@code misses} the number of misses in the tier
+     *
+     * <p>
+     * Param {@code evictions} the number of evictions from the tier
+     */
+    public record TierUsage(
+            long mappings,
+            long occupiedBytes,
+            long allocatedBytes,
+            long hits,
+            long misses,
+            long evictions) {
+    }
+
+    /**
+     * Point in time view of the metrics of a cache.
+     *
+     * <p>
+     * Param {@code alias} the alias of the cache
+     *
+     * <p>
+     * Param {@code hits} the number of cache hits
+     *
+     * <p>
+     * Param {@code misses} the number of cache misses
+     *
+     * <p>
+     * Param {@code puts} the number of puts
+     *
+     * <p>
+     * Param {@code removals} the number of removals
+     *
+     * <p>
+     * Param {@code evictions} the number of evictions
+     *
+     * <p>
+     * Param {@code expirations} the number of expirations
+     *
+     * <p>
+     * Param {@code getLatency} the latency of {@link Cache#get(java.lang.Object)}
+     *
+     * <p>
+     * Param {@code loadLatency} the latency of successful loads
+     *
+     * <p>
+     * Param {@code failedLoads} the number of failed loads
+     *
+     * <p>
+     * Param {@code tiers} the usage of the storage tiers keyed by tier name
+     */
+    public record Snapshot(
+            String alias,
+            long hits,
+            long misses,
+            long puts,
+            long removals,
+            long evictions,
+            long expirations,
+            Latency getLatency,
+            Latency loadLatency,
+            long failedLoads,
+            Map<String, TierUsage> tiers) {
+
+        public Snapshot {
+            tiers = Map.copyOf(tiers);
+        }
+
+        /**
+         * {@return the ratio of hits to all lookups in percent}
+         */
+        public double hitPercentage() {
+            final long lookups = hits + misses;
+            return 0 == lookups ? 0.0 : 100.0 * hits / lookups;
+        }
+    }
+
+    /**
+     * {@return the alias of the cache}
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * {@return a point in time view of the metrics}
+     */
+    public Snapshot snapshot() {
+        final CacheStatistics statistics = cacheStatistics.get();
+        final Map<String, TierUsage> tiers = new TreeMap<>();
+
+        statistics.getTierStatistics().forEach((tier, tierStatistics) -> tiers.put(tier, new TierUsage(
+                tierStatistics.getMappings(),
+                tierStatistics.getOccupiedByteSize(),
+                tierStatistics.getAllocatedByteSize(),
+                tierStatistics.getHits(),
+                tierStatistics.getMisses(),
+                tierStatistics.getEvictions())));
+
+        return new Snapshot(
+                alias,
+                statistics.getCacheHits(),
+                statistics.getCacheMisses(),
+                statistics.getCachePuts(),
+                statistics.getCacheRemovals(),
+                statistics.getCacheEvictions(),
+                statistics.getCacheExpirations(),
+                getLatency.snapshot(),
+                loadLatency.snapshot(),
+                failedLoads.sum(),
+                tiers);
+    }
+
+    void recordGet(final long nanos) {
+        getLatency.record(nanos);
+    }
+
+    void recordLoad(final long nanos, final boolean succeeded) {
+        if (succeeded) {
+            loadLatency.record(nanos);
+        } else {
+            failedLoads.increment();
+        }
+    }
+}
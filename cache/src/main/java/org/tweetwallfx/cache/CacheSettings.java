@@ -33,8 +33,29 @@ import java.util.Objects;
 
 import org.tweetwallfx.config.ConfigurationConverter;
 
+/**
+ * The settings of the caches.
+ *
+ * <p>
+ * Param {@code persistenceDirectoryName} the name of the directory in the
+ * users home directory the caches are persisted in
+ *
+ * <p>
+ * Param {@code warmStartTimeoutSeconds} the number of seconds after which a
+ * warm start of the caches that has not yet completed is reported. The warm
+ * start runs in the background and never delays the startup.
+ *
+ * <p>
+ * Param {@code decodedImagePixels} the number of pixels of decoded images
+ * retained strongly by the {@link DecodedImageCache}
+ *
+ * <p>
+ * Param {@code caches} the settings of the individual caches keyed by alias
+ */
 public record CacheSettings(
         String persistenceDirectoryName,
+        Integer warmStartTimeoutSeconds,
+        Long decodedImagePixels,
         Map<String, CacheSetting> caches) {
 
     /**
@@ -45,6 +66,8 @@ public record CacheSettings(
 
     public CacheSettings {
         persistenceDirectoryName = Objects.requireNonNullElse(persistenceDirectoryName, "tweetwall-cache");
+        warmStartTimeoutSeconds = Objects.requireNonNullElse(warmStartTimeoutSeconds, 10);
+        decodedImagePixels = Objects.requireNonNullElse(decodedImagePixels, 64L * 1024 * 1024);
         caches = nullable(caches);
     }
 
@@ -75,12 +98,16 @@ public record CacheSettings(
             String valueType,
             CacheExpiry expiry,
             Integer contentLoaderThreads,
+            Integer contentLoaderQueueCapacity,
+            Integer warmStartKeys,
             List<CacheResource> cacheResources) {
 
         public CacheSetting {
             Objects.requireNonNull(keyType, "keyType must not be null");
             Objects.requireNonNull(valueType, "valueType must not be null");
             contentLoaderThreads = Objects.requireNonNullElse(contentLoaderThreads, 0);
+            contentLoaderQueueCapacity = Objects.requireNonNullElse(contentLoaderQueueCapacity, 1024);
+            warmStartKeys = Objects.requireNonNullElse(warmStartKeys, 0);
             cacheResources = nullable(cacheResources);
         }
 
@@ -113,6 +140,20 @@ public record CacheSettings(
         TIME_TO_LIVE;
     }
 
+    /**
+     * A storage tier of a cache.
+     *
+     * <p>
+     * Param {@code type} the type of the tier
+     *
+     * <p>
+     * Param {@code amount} the size of the tier
+     *
+     * <p>
+     * Param {@code unit} the unit of the {@code amount}, ignored for a
+     * {@link CacheResourceType#HEAP} tier which is always sized in number of
+     * entries
+     */
     public static record CacheResource(
             CacheResourceType type,
             Long amount,
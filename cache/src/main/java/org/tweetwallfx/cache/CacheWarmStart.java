@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.CacheSettings.CacheSetting;
+
+/**
+ * Records the hot keys of the caches on shutdown and preloads their entries at
+ * startup so that the heap tier of a cache is populated from its persistent
+ * tiers before the content is first requested.
+ */
+final class CacheWarmStart {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmStart.class);
+    private static final String SNAPSHOT_SUFFIX = ".keys";
+    private static final int PRELOAD_BATCH_SIZE = 32;
+    private final Path directory;
+    private final Map<String, HotKeys> hotKeys = new ConcurrentHashMap<>();
+
+    CacheWarmStart(final Path directory, final Map<String, CacheSetting> cacheSettings) {
+        this.directory = directory;
+        cacheSettings.forEach((alias, cacheSetting) -> hotKeys.put(alias, new HotKeys(
+                String.class.getName().equals(cacheSetting.keyType())
+                ? cacheSetting.warmStartKeys()
+                : 0)));
+    }
+
+    /**
+     * Retrieves the hot keys of the cache with the given alias.
+     *
+     * @param alias the alias of the cache
+     *
+     * @return the hot keys of the cache
+     */
+    HotKeys hotKeys(final String alias) {
+        return hotKeys.computeIfAbsent(alias, a -> new HotKeys(0));
+    }
+
+    /**
+     * Preloads the entries of the hot keys recorded on the previous shutdown in
+     * parallel.
+     *
+     * @param cacheLookup function looking up the cache of an alias
+     *
+     * @return the future completed once all entries have been preloaded
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    CompletableFuture<Void> preload(final Function<String, org.ehcache.Cache<String, ?>> cacheLookup) {
+        final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("cache-warm-start-", 0).factory());
+        final List<CompletableFuture<Void>> preloads = new ArrayList<>();
+
+        hotKeys.forEach((alias, keys) -> {
+            final List<String> snapshot = keys.isEnabled() ? readSnapshot(alias) : List.of();
+
+            if (snapshot.isEmpty()) {
+                return;
+            }
+
+            keys.seed(snapshot);
+            final org.ehcache.Cache<String, ?> cache = cacheLookup.apply(alias);
+            final AtomicInteger preloaded = new AtomicInteger();
+            final List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+            for (int i = 0; i < snapshot.size(); i += PRELOAD_BATCH_SIZE) {
+                final List<String> batch = snapshot.subList(i, Math.min(snapshot.size(), i + PRELOAD_BATCH_SIZE));
+                batches.add(CompletableFuture.runAsync(() -> batch.forEach(key -> {
+                    if (null != cache.get(key)) {
+                        preloaded.incrementAndGet();
+                    }
+                }), executor));
+            }
+
+            preloads.add(CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                    .whenComplete((v, t) -> {
+                        if (null == t) {
+                            LOG.info("{}: Warm start preloaded {} of {} hot keys", alias, preloaded.get(), snapshot.size());
+                        } else {
+                            LOG.warn("{}: Warm start failed after preloading {} of {} hot keys", alias, preloaded.get(), snapshot.size(), t);
+                        }
+                    }));
+        });
+
+        final CompletableFuture<Void> preload = CompletableFuture.allOf(preloads.toArray(CompletableFuture[]::new));
+        preload.whenComplete((v, t) -> executor.shutdown());
+        return preload;
+    }
+
+    /**
+     * Writes the hot keys of all caches to their snapshot files.
+     */
+    void save() {
+        hotKeys.forEach((alias, keys) -> {
+            if (keys.isEnabled()) {
+                writeSnapshot(alias, keys.hottest());
+            }
+        });
+    }
+
+    private List<String> readSnapshot(final String alias) {
+        try {
+            return Files.readAllLines(directory.resolve(alias + SNAPSHOT_SUFFIX), StandardCharsets.UTF_8);
+        } catch (final NoSuchFileException nsfe) {
+            LOG.debug("{}: No warm start snapshot exists", alias);
+        } catch (final IOException ioe) {
+            LOG.warn("{}: Failed to read warm start snapshot", alias, ioe);
+        }
+
+        return List.of();
+    }
+
+    private void writeSnapshot(final String alias, final List<String> keys) {
+        final Path snapshot = directory.resolve(alias + SNAPSHOT_SUFFIX);
+
+        try {
+            Files.createDirectories(directory);
+            final Path temporary = Files.write(directory.resolve(alias + SNAPSHOT_SUFFIX + ".tmp"), keys, StandardCharsets.UTF_8);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.info("{}: Recorded {} hot keys for warm start", alias, keys.size());
+        } catch (final IOException ioe) {
+            LOG.warn("{}: Failed to write warm start snapshot", alias, ioe);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+
+/**
+ * Cache of decoded {@link Image Images} shared by everything displaying
+ * {@link URLContent} as an image. Images are keyed by the digest of the
+ * content they are decoded from together with the requested size and
+ * filtering, so the same content shown in many places is decoded only once.
+ *
+ * <p>
+ * The most recently used images are retained strongly as long as their
+ * pixels fit into the pixel budget (see
+ * {@link CacheSettings#decodedImagePixels()}). Images exceeding the budget
+ * are retained softly only, so they are reused until the garbage collector
+ * needs the memory.
+ */
+public final class DecodedImageCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DecodedImageCache.class);
+
+    /**
+     * The shared cache instance.
+     */
+    public static final DecodedImageCache INSTANCE = new DecodedImageCache(
+            Configuration.getInstance()
+                    .getConfigTyped(CacheSettings.CONFIG_KEY, CacheSettings.class)
+                    .decodedImagePixels(),
+            DecodedImageCache::decode);
+
+    private final long pixelBudget;
+    private final BiFunction<URLContent, Key, Image> decoder;
+    private final LinkedHashMap<Key, Image> retained = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, SoftEntry> softlyRetained = new HashMap<>();
+    private final ReferenceQueue<Image> clearedImages = new ReferenceQueue<>();
+    private long retainedPixels;
+
+    DecodedImageCache(final long pixelBudget, final BiFunction<URLContent, Key, Image> decoder) {
+        this.pixelBudget = pixelBudget;
+        this.decoder = Objects.requireNonNull(decoder, "decoder must not be null");
+    }
+
+    /**
+     * Retrieves the {@link Image} of the {@code content} in its original size.
+     *
+     * @param content the content to decode
+     *
+     * @return the decoded image
+     */
+    public Image get(final URLContent content) {
+        return get(content, 0, 0, false, false);
+    }
+
+    /**
+     * Retrieves the {@link Image} of the content with the given {@code digest}
+     * in its original size. The {@code contentSupplier} is only invoked in
+     * case that image has not been decoded yet.
+     *
+     * @param digest the digest of the content to decode
+     *
+     * @param contentSupplier the supplier of the content to decode
+     *
+     * @return the decoded image
+     */
+    public Image get(final String digest, final Supplier<URLContent> contentSupplier) {
+        Objects.requireNonNull(digest, "digest must not be null");
+        Objects.requireNonNull(contentSupplier, "contentSupplier must not be null");
+        final Image cached = lookup(new Key(digest, 0, 0, false, false));
+
+        return null == cached
+                ? get(contentSupplier.get())
+                : cached;
+    }
+
+    /**
+     * Retrieves the {@link Image} of the {@code content} as it would be created
+     * via {@link Image#Image(java.io.InputStream, double, double, boolean, boolean)}.
+     * In case the image has already been decoded with the same parameters the
+     * cached instance is returned.
+     *
+     * @param content the content to decode
+     *
+     * @param requestedWidth the width of the bounding box of the image
+     *
+     * @param requestedHeight the height of the bounding box of the image
+     *
+     * @param preserveRatio flag indicating whether the aspect ratio is to be
+     * preserved when scaling to fit the bounding box
+     *
+     * @param smooth flag indicating whether a better quality filtering
+     * algorithm is to be used when scaling the image
+     *
+     * @return the decoded image
+     */
+    public Image get(
+            final URLContent content,
+            final double requestedWidth,
+            final double requestedHeight,
+            final boolean preserveRatio,
+            final boolean smooth) {
+        Objects.requireNonNull(content, "content must not be null");
+        final Key key = new Key(content.digest(), requestedWidth, requestedHeight, preserveRatio, smooth);
+        final Image cached = lookup(key);
+
+        if (null != cached) {
+            return cached;
+        }
+
+        // decoding happens outside the lock, concurrent decodes of the same image are resolved on insertion
+        final Image image = decoder.apply(content, key);
+
+        if (image.isError()) {
+            LOG.debug("Failed to decode image from {}", content.urlString(), image.getException());
+            return image;
+        }
+
+        return retain(key, image);
+    }
+
+    /**
+     * Retrieves the {@link Image} of the {@code content} like
+     * {@link #get(org.tweetwallfx.cache.URLContent, double, double, boolean, boolean)}
+     * but only in case it has already been decoded.
+     *
+     * @param content the content to decode
+     *
+     * @param requestedWidth the width of the bounding box of the image
+     *
+     * @param requestedHeight the height of the bounding box of the image
+     *
+     * @param preserveRatio flag indicating whether the aspect ratio is to be
+     * preserved when scaling to fit the bounding box
+     *
+     * @param smooth flag indicating whether a better quality filtering
+     * algorithm is to be used when scaling the image
+     *
+     * @return the decoded image or an empty Optional in case it has not been
+     * decoded yet
+     */
+    public Optional<Image> getIfDecoded(
+            final URLContent content,
+            final double requestedWidth,
+            final double requestedHeight,
+            final boolean preserveRatio,
+            final boolean smooth) {
+        Objects.requireNonNull(content, "content must not be null");
+        return Optional.ofNullable(lookup(new Key(content.digest(), requestedWidth, requestedHeight, preserveRatio, smooth)));
+    }
+
+    /**
+     * Retrieves the number of pixels of the images currently retained
+     * strongly.
+     *
+     * @return the number of retained pixels
+     */
+    public synchronized long getRetainedPixels() {
+        return retainedPixels;
+    }
+
+    /**
+     * Removes all images from this cache.
+     */
+    public synchronized void clear() {
+        retained.clear();
+        softlyRetained.clear();
+        retainedPixels = 0;
+    }
+
+    private synchronized Image lookup(final Key key) {
+        final Image image = retained.get(key);
+
+        if (null != image) {
+            return image;
+        }
+
+        final SoftEntry softEntry = softlyRetained.get(key);
+        final Image softImage = null == softEntry ? null : softEntry.get();
+
+        return null == softImage ? null : retain(key, softImage);
+    }
+
+    private synchronized Image retain(final Key key, final Image image) {
+        final Image existing = retained.get(key);
+
+        if (null != existing) {
+            return existing;
+        }
+
+        purgeClearedImages();
+        softlyRetained.put(key, new SoftEntry(key, image, clearedImages));
+        retained.put(key, image);
+        retainedPixels += pixels(image);
+
+        final Iterator<Image> iterator = retained.values().iterator();
+
+        // the most recently used image is kept even if it exceeds the budget on its own
+        while (retainedPixels > pixelBudget && retained.size() > 1) {
+            retainedPixels -= pixels(iterator.next());
+            iterator.remove();
+        }
+
+        return image;
+    }
+
+    private void purgeClearedImages() {
+        for (SoftEntry cleared = (SoftEntry) clearedImages.poll(); null != cleared; cleared = (SoftEntry) clearedImages.poll()) {
+            softlyRetained.remove(cleared.key, cleared);
+        }
+    }
+
+    private static long pixels(final Image image) {
+        return (long) image.getWidth() * (long) image.getHeight();
+    }
+
+    private static Image decode(final URLContent content, final Key key) {
+        return new Image(
+                content.getInputStream(),
+                key.requestedWidth(),
+                key.requestedHeight(),
+                key.preserveRatio(),
+                key.smooth());
+    }
+
+    record Key(
+            String digest,
+            double requestedWidth,
+            double requestedHeight,
+            boolean preserveRatio,
+            boolean smooth) {
+    }
+
+    private static final class SoftEntry extends SoftReference<Image> {
+
+        private final Key key;
+
+        private SoftEntry(final Key key, final Image image, final ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+}
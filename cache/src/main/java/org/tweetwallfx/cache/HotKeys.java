@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximate set of the most frequently accessed keys of a cache. Only keys
+ * of type {@link String} are tracked since they are persisted as text lines.
+ *
+ * <p>
+ * Once the number of tracked keys exceeds four times the capacity the least
+ * accessed keys are dropped and the access counts of the remaining ones are
+ * halved so that keys accessed recently are able to catch up with keys
+ * having been hot in the past.
+ */
+final class HotKeys {
+
+    private final int capacity;
+    private final Map<String, AtomicLong> accessCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    HotKeys(final int capacity) {
+        this.capacity = Math.max(0, capacity);
+    }
+
+    /**
+     * {@return a boolean flag indicating that keys are tracked}
+     */
+    boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Records an access of the {@code key}.
+     *
+     * @param key the key accessed
+     */
+    void record(final Object key) {
+        if (0 == capacity || !(key instanceof String stringKey) || !isPersistable(stringKey)) {
+            return;
+        }
+
+        accessCounts.computeIfAbsent(stringKey, k -> new AtomicLong()).incrementAndGet();
+
+        if (accessCounts.size() > 4 * capacity && trimming.compareAndSet(false, true)) {
+            try {
+                trim();
+            } finally {
+                trimming.set(false);
+            }
+        }
+    }
+
+    /**
+     * Records a single access for each of the {@code keys} unless they are
+     * already tracked, e.g. to carry over the keys of a previous run.
+     *
+     * @param keys the keys to seed
+     */
+    void seed(final Collection<String> keys) {
+        if (0 == capacity) {
+            return;
+        }
+
+        keys.stream()
+                .filter(HotKeys::isPersistable)
+                .limit(capacity)
+                .forEach(key -> accessCounts.putIfAbsent(key, new AtomicLong(1)));
+    }
+
+    /**
+     * {@return the keys accessed most often ordered by descending number of accesses}
+     */
+    List<String> hottest() {
+        return hottest(capacity);
+    }
+
+    private List<String> hottest(final int limit) {
+        return accessCounts.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().get()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void trim() {
+        final List<String> retained = hottest(2 * capacity);
+
+        accessCounts.keySet().retainAll(Set.copyOf(retained));
+        accessCounts.values().forEach(count -> count.updateAndGet(c -> Math.max(1, c / 2)));
+    }
+
+    private static boolean isPersistable(final String key) {
+        return !key.isEmpty() && key.indexOf('\n') < 0 && key.indexOf('\r') < 0;
+    }
+}
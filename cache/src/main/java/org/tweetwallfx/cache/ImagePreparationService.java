@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Service preparing {@link Image Images} off the JavaFX Application Thread.
+ * Images are decoded on dedicated worker threads into the
+ * {@link DecodedImageCache} so that scene graphs can be built without waiting
+ * for content to be loaded or decoded.
+ */
+public final class ImagePreparationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImagePreparationService.class);
+
+    /**
+     * The shared service instance.
+     */
+    public static final ImagePreparationService INSTANCE = new ImagePreparationService(
+            DecodedImageCache.INSTANCE,
+            Executors.newFixedThreadPool(
+                    Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                    Thread.ofPlatform().name("imageDecoder", 1).daemon(true).factory()));
+
+    /**
+     * The maximum number of placeholders kept for reuse. Placeholders of
+     * dimensions not requested recently are dropped as every one of them
+     * occupies as much memory as the image it stands in for.
+     */
+    static final int MAX_PLACEHOLDERS = 32;
+    private static final Map<Long, Image> PLACEHOLDERS = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Image> eldest) {
+            return size() > MAX_PLACEHOLDERS;
+        }
+    });
+    private final DecodedImageCache imageCache;
+    private final Executor decoder;
+
+    ImagePreparationService(final DecodedImageCache imageCache, final Executor decoder) {
+        this.imageCache = Objects.requireNonNull(imageCache, "imageCache must not be null");
+        this.decoder = Objects.requireNonNull(decoder, "decoder must not be null");
+    }
+
+    /**
+     * Prepares the {@link Image} of the {@code content} in its original size.
+     *
+     * @param content the future of the content to decode
+     *
+     * @return the future of the decoded image
+     */
+    public CompletableFuture<Image> prepare(final CompletableFuture<URLContent> content) {
+        return prepare(content, 0, 0, false, false);
+    }
+
+    /**
+     * Prepares the {@link Image} of the {@code content} as it would be created
+     * via {@link Image#Image(java.io.InputStream, double, double, boolean, boolean)}.
+     * The image is decoded on a worker thread once the content is available
+     * unless it has already been decoded before.
+     *
+     * @param content the future of the content to decode
+     *
+     * @param requestedWidth the width of the bounding box of the image
+     *
+     * @param requestedHeight the height of the bounding box of the image
+     *
+     * @param preserveRatio flag indicating whether the aspect ratio is to be
+     * preserved when scaling to fit the bounding box
+     *
+     * @param smooth flag indicating whether a better quality filtering
+     * algorithm is to be used when scaling the image
+     *
+     * @return the future of the decoded image, being already completed in case
+     * the image has been decoded before
+     */
+    public CompletableFuture<Image> prepare(
+            final CompletableFuture<URLContent> content,
+            final double requestedWidth,
+            final double requestedHeight,
+            final boolean preserveRatio,
+            final boolean smooth) {
+        Objects.requireNonNull(content, "content must not be null");
+
+        if (Future.State.SUCCESS == content.state()) {
+            final Image decoded = imageCache
+                    .getIfDecoded(content.resultNow(), requestedWidth, requestedHeight, preserveRatio, smooth)
+                    .orElse(null);
+
+            if (null != decoded) {
+                return CompletableFuture.completedFuture(decoded);
+            }
+        }
+
+        return content.thenApplyAsync(
+                urlContent -> imageCache.get(urlContent, requestedWidth, requestedHeight, preserveRatio, smooth),
+                decoder);
+    }
+
+    /**
+     * Retrieves the {@link Image} of the {@code content} in its original size
+     * in case it is ready or the {@code placeholder} otherwise (see
+     * {@link #getReadyOrPlaceholder(java.util.concurrent.CompletableFuture, double, double, boolean, boolean, javafx.scene.image.Image, java.util.function.Consumer)}).
+     *
+     * @param content the future of the content to decode
+     *
+     * @param placeholder the image to use until the image is ready
+     *
+     * @param whenReady the consumer of the image once it is ready
+     *
+     * @return the ready image or the {@code placeholder}
+     */
+    public Image getReadyOrPlaceholder(
+            final CompletableFuture<URLContent> content,
+            final Image placeholder,
+            final Consumer<Image> whenReady) {
+        return getReadyOrPlaceholder(content, 0, 0, false, false, placeholder, whenReady);
+    }
+
+    /**
+     * Retrieves the {@link Image} of the {@code content} without ever
+     * blocking. In case the image has already been decoded it is returned
+     * directly. Otherwise the image is prepared in the background, the
+     * {@code placeholder} is returned and the prepared image is handed to
+     * {@code whenReady} on the JavaFX Application Thread (e.g. to set it on
+     * the {@code ImageView} showing the placeholder).
+     *
+     * @param content the future of the content to decode
+     *
+     * @param requestedWidth the width of the bounding box of the image
+     *
+     * @param requestedHeight the height of the bounding box of the image
+     *
+     * @param preserveRatio flag indicating whether the aspect ratio is to be
+     * preserved when scaling to fit the bounding box
+     *
+     * @param smooth flag indicating whether a better quality filtering
+     * algorithm is to be used when scaling the image
+     *
+     * @param placeholder the image to use until the image is ready
+     *
+     * @param whenReady the consumer of the image once it is ready
+     *
+     * @return the ready image or the {@code placeholder}
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public Image getReadyOrPlaceholder(
+            final CompletableFuture<URLContent> content,
+            final double requestedWidth,
+            final double requestedHeight,
+            final boolean preserveRatio,
+            final boolean smooth,
+            final Image placeholder,
+            final Consumer<Image> whenReady) {
+        Objects.requireNonNull(whenReady, "whenReady must not be null");
+        final CompletableFuture<Image> image = prepare(content, requestedWidth, requestedHeight, preserveRatio, smooth);
+
+        if (Future.State.SUCCESS == image.state()) {
+            return image.resultNow();
+        }
+
+        image.whenComplete((preparedImage, throwable) -> {
+            if (null == throwable) {
+                Platform.runLater(() -> whenReady.accept(preparedImage));
+            } else {
+                LOG.warn("Failed to prepare image, keeping placeholder", throwable);
+            }
+        });
+
+        return placeholder;
+    }
+
+    /**
+     * Retrieves a transparent placeholder image of the given dimensions
+     * occupying the same space as the image it stands in for. The placeholders
+     * of the {@value #MAX_PLACEHOLDERS} most recently requested dimensions are
+     * reused.
+     *
+     * @param width the width of the placeholder
+     *
+     * @param height the height of the placeholder
+     *
+     * @return the placeholder image
+     */
+    public static Image placeholder(final int width, final int height) {
+        return PLACEHOLDERS.computeIfAbsent(
+                ((long) Math.max(1, width) << 32) | Math.max(1, height),
+                key -> new WritableImage((int) (key >>> 32), key.intValue()));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor of content loads keeping a bounded queue per {@link LoadPriority}.
+ * Its workers always take the oldest load of the highest priority queued, so
+ * a burst of prefetches does not delay loads being awaited. Loads submitted
+ * while the queue of their priority is full are rejected.
+ *
+ * <p>
+ * Once {@link #shutdown() shut down} the workers stop after their current
+ * load while queued loads are discarded and further loads are rejected.
+ */
+final class PriorityContentLoader implements Executor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PriorityContentLoader.class);
+    private static final LoadPriority[] PRIORITIES = LoadPriority.values();
+    private final int nrThreads;
+    private final ThreadFactory threadFactory;
+    private final int queueCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition loadQueued = lock.newCondition();
+    private final Map<LoadPriority, Queue<Runnable>> queues = new EnumMap<>(LoadPriority.class);
+    private final Map<LoadPriority, LongAdder> executed = new EnumMap<>(LoadPriority.class);
+    private final Map<LoadPriority, LongAdder> rejected = new EnumMap<>(LoadPriority.class);
+    private boolean workersStarted;
+    private boolean shutdown;
+
+    PriorityContentLoader(final int nrThreads, final ThreadFactory threadFactory, final int queueCapacity) {
+        this.nrThreads = Math.max(1, nrThreads);
+        this.threadFactory = Objects.requireNonNull(threadFactory, "threadFactory must not be null");
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        for (final LoadPriority priority : PRIORITIES) {
+            queues.put(priority, new ArrayDeque<>());
+            executed.put(priority, new LongAdder());
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * Executes the {@code command} with a priority of
+     * {@link LoadPriority#ON_SCREEN_SOON}.
+     *
+     * @param command the load to execute
+     */
+    @Override
+    public void execute(final Runnable command) {
+        execute(LoadPriority.ON_SCREEN_SOON, command);
+    }
+
+    /**
+     * Executes the {@code command} once no load of a higher priority is
+     * queued and a worker is available.
+     *
+     * @param priority the priority of the load
+     *
+     * @param command the load to execute
+     *
+     * @throws RejectedExecutionException in case the queue of the
+     * {@code priority} is full or this loader has been shut down
+     */
+    void execute(final LoadPriority priority, final Runnable command) {
+        Objects.requireNonNull(priority, "priority must not be null");
+        Objects.requireNonNull(command, "command must not be null");
+        lock.lock();
+
+        try {
+            final Queue<Runnable> queue = queues.get(priority);
+
+            if (shutdown) {
+                throw new RejectedExecutionException("Content loader has been shut down");
+            } else if (queue.size() >= queueCapacity) {
+                rejected.get(priority).increment();
+                throw new RejectedExecutionException("Queue of " + priority + " loads is full");
+            }
+
+            queue.add(command);
+            startWorkers();
+            loadQueued.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@return the statistics of the loads per priority}
+     */
+    Map<LoadPriority, URLContentCacheBase.QueueStatistics> getStatistics() {
+        final Map<LoadPriority, URLContentCacheBase.QueueStatistics> statistics = new EnumMap<>(LoadPriority.class);
+        lock.lock();
+
+        try {
+            for (final LoadPriority priority : PRIORITIES) {
+                statistics.put(priority, new URLContentCacheBase.QueueStatistics(
+                        queues.get(priority).size(),
+                        executed.get(priority).sum(),
+                        rejected.get(priority).sum()));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Shuts this loader down. The workers stop once they have finished their
+     * current load, queued loads are discarded and further loads are
+     * rejected.
+     */
+    void shutdown() {
+        lock.lock();
+
+        try {
+            shutdown = true;
+            queues.values().forEach(Queue::clear);
+            loadQueued.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startWorkers() {
+        if (!workersStarted) {
+            workersStarted = true;
+
+            for (int i = 0; i < nrThreads; i++) {
+                threadFactory.newThread(this::work).start();
+            }
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Runnable command;
+
+            try {
+                command = take();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (null == command) {
+                // shut down
+                return;
+            }
+
+            try {
+                command.run();
+            } catch (final RuntimeException re) {
+                LOG.error("Content load failed", re);
+            }
+        }
+    }
+
+    /**
+     * Takes the next load to execute waiting for one being queued.
+     *
+     * @return the load or {@code null} in case this loader has been shut down
+     *
+     * @throws InterruptedException in case the waiting is interrupted
+     */
+    private Runnable take() throws InterruptedException {
+        lock.lock();
+
+        try {
+            while (!shutdown) {
+                for (final LoadPriority priority : PRIORITIES) {
+                    final Runnable command = queues.get(priority).poll();
+
+                    if (null != command) {
+                        executed.get(priority).increment();
+                        return command;
+                    }
+                }
+
+                loadQueued.await();
+            }
+
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
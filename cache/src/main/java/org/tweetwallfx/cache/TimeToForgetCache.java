@@ -23,9 +23,17 @@
  */
 package org.tweetwallfx.cache;
 
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.HttpURLConnection;
 import java.net.URI;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.util.JsonDataConverter;
@@ -34,10 +42,20 @@ import org.tweetwallfx.util.Stopwatch;
 /**
  * Cache implementation for caches that simply forget an entry after a specified
  * time (e.g. 15 or 60 minutes).
+ *
+ * <p>
+ * The validators ({@code ETag} and {@code Last-Modified}) of the most recently
+ * loaded contents are kept alongside a soft reference to that content. Once an
+ * entry has been forgotten the last loaded content is served (as long as it
+ * has not been garbage collected) while it is revalidated in the background
+ * via a conditional request. In case the server reports the content as not
+ * modified it is cached again without being transferred anew.
  */
 public class TimeToForgetCache extends URLContentCacheBase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TimeToForgetCache.class);
+    private static final int MAX_VALIDATED_CONTENTS = 1_000;
+    private final LinkedHashMap<String, ValidatedContent> validatedContents = new LinkedHashMap<>(16, 0.75f, true);
 
     /**
      * Cache forgetting a cached entry after 15 minutes.
@@ -53,13 +71,125 @@ public class TimeToForgetCache extends URLContentCacheBase {
         super("timeToForgetCache" + suffix);
     }
 
+    TimeToForgetCache(final String cacheName, final Cache<String, URLContent> urlContentCache, final Executor contentLoader) {
+        super(cacheName, urlContentCache, contentLoader);
+    }
+
     public <T> T getJson(final URI uri, final Class<T> type) {
         final URLContent urlc = Stopwatch.measure(
-                () -> super.getCachedOrLoad(uri.toString()),
+                () -> getCachedOrRevalidate(uri.toString()),
                 duration -> LOGGER.info("URI call to {} took {}", uri, duration));
         return JsonDataConverter.convertFromInputStream(urlc.getInputStream(), type);
     }
 
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private URLContent getCachedOrRevalidate(final String urlString) {
+        final Optional<URLContent> cachedContent = getCachedContent(urlString);
+
+        if (cachedContent.isPresent()) {
+            return cachedContent.get();
+        }
+
+        final URLContent staleContent = getValidatedContent(urlString)
+                .map(ValidatedContent::content)
+                .orElse(null);
+
+        if (null == staleContent) {
+            // nothing to serve in the meantime
+            return getCachedOrLoad(urlString);
+        }
+
+        // concurrent revalidations of the same URL share a single load
+        getCachedOrLoadAsync(urlString, LoadPriority.PREFETCH).whenComplete((content, t) -> {
+            if (null != t) {
+                LOGGER.warn("Failed to revalidate content of {}", urlString, t);
+            }
+        });
+
+        LOGGER.info("Serving stale content of {} while revalidating it", urlString);
+        return staleContent;
+    }
+
+    /**
+     * Loads the content of {@code urlString} conditionally on it having been
+     * modified since it has been loaded last.
+     *
+     * @param urlString the URL of the content
+     *
+     * @return the current content or {@link URLContent#NO_CONTENT} in case no
+     * content exists for {@code urlString}
+     *
+     * @throws IOException in case loading the content fails
+     */
+    @Override
+    protected URLContent loadContent(final String urlString) throws IOException {
+        final ValidatedContent previous = getValidatedContent(urlString).orElse(null);
+        final URLContent previousContent = null == previous ? null : previous.content();
+        final URLConnection connection = URI.create(urlString).toURL().openConnection();
+
+        if (null != previousContent) {
+            previous.addValidators(connection);
+
+            if (connection instanceof HttpURLConnection httpConnection
+                    && HttpURLConnection.HTTP_NOT_MODIFIED == httpConnection.getResponseCode()) {
+                LOGGER.info("Content of {} has not been modified", urlString);
+                return previousContent;
+            }
+        }
+
+        final URLContent content = URLContent.of(urlString, connection);
+
+        if (URLContent.NO_CONTENT == content) {
+            // nothing to revalidate
+            return content;
+        }
+
+        putValidatedContent(urlString, new ValidatedContent(
+                new SoftReference<>(content),
+                connection.getHeaderField("ETag"),
+                connection.getHeaderField("Last-Modified")));
+        return content;
+    }
+
+    private synchronized Optional<ValidatedContent> getValidatedContent(final String urlString) {
+        return Optional.ofNullable(validatedContents.get(urlString));
+    }
+
+    private synchronized void putValidatedContent(final String urlString, final ValidatedContent validatedContent) {
+        validatedContents.put(urlString, validatedContent);
+
+        final Iterator<ValidatedContent> eldest = validatedContents.values().iterator();
+
+        while (validatedContents.size() > MAX_VALIDATED_CONTENTS) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static record ValidatedContent(
+            SoftReference<URLContent> contentReference,
+            String eTag,
+            String lastModified) {
+
+        /**
+         * {@return the content or {@code null} in case it has been garbage
+         * collected}
+         */
+        private URLContent content() {
+            return contentReference.get();
+        }
+
+        private void addValidators(final URLConnection connection) {
+            if (null != eTag) {
+                connection.setRequestProperty("If-None-Match", eTag);
+            }
+
+            if (null != lastModified) {
+                connection.setRequestProperty("If-Modified-Since", lastModified);
+            }
+        }
+    }
+
     public List<?> getJsonList(final URI uri) {
         return getJson(uri, List.class);
     }
@@ -27,22 +27,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URI;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HexFormat;
 import java.util.Objects;
 
+/**
+ * Content loaded from a URL together with its SHA-256 digest.
+ *
+ * <p>
+ * The content is read in a single pass computing the digest while streaming,
+ * so no intermediate copies of the data are made. The data itself is still
+ * held on heap in a {@code byte[]} (and serialized as such by the caches);
+ * {@link #asByteBuffer()} and {@link #getInputStream()} merely provide
+ * read-only access to it without copying.
+ */
 public final class URLContent implements Serializable {
 
     private static final long serialVersionUID = 0L;
     private static final Logger LOG = LoggerFactory.getLogger(URLContent.class);
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+    // an expected length (e.g. from a Content-Length header) is not trusted beyond this size
+    private static final int MAX_INITIAL_BUFFER_SIZE = 8 * 1024 * 1024;
 
     /**
      * Represents an empty URL content value.
@@ -59,30 +74,141 @@ public final class URLContent implements Serializable {
     private final String digest;
 
     public URLContent(final String urlString, final byte[] data, final String digest) {
+        this(urlString, digest, Arrays.copyOf(Objects.requireNonNull(data, "data must not be null"), data.length));
+    }
+
+    /**
+     * Creates an instance taking ownership of {@code data} (i.e. without
+     * copying it).
+     */
+    private URLContent(final String urlString, final String digest, final byte[] data) {
         this.urlString = Objects.requireNonNull(urlString, "urlString must not be null");
-        Objects.requireNonNull(data, "data must not be null");
-        this.data = Arrays.copyOf(data, data.length);
+        this.data = Objects.requireNonNull(data, "data must not be null");
         this.digest = Objects.requireNonNull(digest, "digest must not be null");
     }
 
     public static URLContent of(final String urlString, final InputStream in) throws IOException {
+        return of(urlString, in, -1L);
+    }
+
+    /**
+     * Creates an instance for already available {@code data} computing its
+     * digest.
+     *
+     * @param urlString the URL of the content
+     *
+     * @param data the data of the content
+     *
+     * @return the created content
+     *
+     * @throws IOException in case reading the data fails
+     */
+    static URLContent of(final String urlString, final byte[] data) throws IOException {
+        return of(urlString, new ByteArrayInputStream(data), data.length);
+    }
+
+    /**
+     * Reads the content from {@code in} while computing its digest. The data is
+     * read directly into the buffer finally held by the created instance so
+     * that in case {@code expectedLength} matches the actual length no copy of
+     * the data is made at all. The initial buffer is never larger than
+     * {@value #MAX_INITIAL_BUFFER_SIZE} bytes, so larger contents grow the
+     * buffer as they are read.
+     *
+     * @param urlString the URL of the content
+     *
+     * @param in the stream to read the content from
+     *
+     * @param expectedLength the expected length of the content or a negative
+     * value if unknown
+     *
+     * @return the read content
+     *
+     * @throws IOException in case reading the content fails
+     */
+    private static URLContent of(final String urlString, final InputStream in, final long expectedLength) throws IOException {
         LOG.debug("Loading content from: {}", in);
-        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
-        in.transferTo(bout);
-        byte[] bytes = bout.toByteArray();
+        final MessageDigest messageDigest = createMessageDigest(in);
+        byte[] buffer = new byte[0 <= expectedLength
+                ? (int) Math.min(expectedLength, MAX_INITIAL_BUFFER_SIZE)
+                : INITIAL_BUFFER_SIZE];
+        int size = 0;
+
+        while (true) {
+            if (size == buffer.length) {
+                // avoid growing the buffer in case the end of the stream has been reached
+                final int next = in.read();
+
+                if (next < 0) {
+                    break;
+                } else if (size == MAX_BUFFER_SIZE) {
+                    throw new IOException("Content of " + urlString + " exceeds the maximum supported size");
+                }
+
+                buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_BUFFER_SIZE, Math.max(INITIAL_BUFFER_SIZE, 2L * buffer.length)));
+                buffer[size] = (byte) next;
+                update(messageDigest, buffer, size, 1);
+                size++;
+            }
+
+            final int read = in.read(buffer, size, buffer.length - size);
+
+            if (read < 0) {
+                break;
+            }
+
+            update(messageDigest, buffer, size, read);
+            size += read;
+        }
+
         String digest = "0000000000000000000000000000000000000000000000000000000000000000";
-        try {
-            digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+
+        if (null != messageDigest) {
+            digest = HexFormat.of().formatHex(messageDigest.digest());
             LOG.info("SHA-256: {}", digest);
+        }
+
+        return new URLContent(
+                urlString,
+                digest,
+                size == buffer.length ? buffer : Arrays.copyOf(buffer, size));
+    }
+
+    private static MessageDigest createMessageDigest(final InputStream in) {
+        try {
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException ex) {
             LOG.warn("Failed to create digest for {}", in, ex);
+            return null;
+        }
+    }
+
+    private static void update(final MessageDigest messageDigest, final byte[] buffer, final int offset, final int length) {
+        if (null != messageDigest) {
+            messageDigest.update(buffer, offset, length);
         }
-        return new URLContent(urlString, bytes, digest);
     }
 
     public static URLContent of(final String urlString) throws IOException {
-        try (InputStream in = URI.create(urlString).toURL().openStream()) {
-            return of(urlString, in);
+        return of(urlString, URI.create(urlString).toURL().openConnection());
+    }
+
+    /**
+     * Reads the content from the already opened {@code connection} using its
+     * content length to size the buffer.
+     *
+     * @param urlString the URL of the content
+     *
+     * @param connection the connection to read the content from
+     *
+     * @return the read content or {@link #NO_CONTENT} in case no content exists
+     * for the URL
+     *
+     * @throws IOException in case reading the content fails
+     */
+    static URLContent of(final String urlString, final URLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return of(urlString, in, connection.getContentLengthLong());
         } catch (FileNotFoundException fne) {
             LOG.warn("No data found for {}", urlString, fne);
             return NO_CONTENT;
@@ -101,6 +227,25 @@ public final class URLContent implements Serializable {
         return new ByteArrayInputStream(data);
     }
 
+    /**
+     * Returns a read-only view of the content not copying the data. The view
+     * is backed by the heap held data of this instance.
+     *
+     * @return a read-only {@link ByteBuffer} view of the content
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the size of the content in bytes.
+     *
+     * @return the size of the content in bytes
+     */
+    public int size() {
+        return data.length;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(digest, Arrays.hashCode(data));
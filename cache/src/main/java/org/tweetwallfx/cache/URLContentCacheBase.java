@@ -25,11 +25,25 @@ package org.tweetwallfx.cache;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -49,6 +63,11 @@ public abstract class URLContentCacheBase {
     private final String cacheName;
     private final Executor contentLoader;
     private final Cache<String, URLContent> urlContentCache;
+    private final Map<String, CompletableFuture<URLContent>> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder failedLoads = new LongAdder();
+    private final Map<String, ContentTransform> variants = new ConcurrentHashMap<>();
 
     protected URLContentCacheBase(final String cacheName) {
         this(cacheName, initializeCache(cacheName), initializeExecutor(cacheName));
@@ -68,13 +87,18 @@ public abstract class URLContentCacheBase {
     }
 
     private static Executor initializeExecutor(String cacheName) {
-        return createExecutor(
-                Configuration.getInstance()
-                        .getConfigTyped(CacheSettings.CONFIG_KEY, CacheSettings.class)
-                        .caches()
-                        .get(cacheName)
-                        .contentLoaderThreads(),
+        final CacheSettings.CacheSetting cacheSetting = Configuration.getInstance()
+                .getConfigTyped(CacheSettings.CONFIG_KEY, CacheSettings.class)
+                .caches()
+                .get(cacheName);
+
+        final PriorityContentLoader contentLoader = createExecutor(
+                cacheSetting.contentLoaderThreads(),
+                cacheSetting.contentLoaderQueueCapacity(),
                 cacheName);
+        // stop loading content once the caches are closed
+        CacheManagerProvider.runOnShutdown(contentLoader::shutdown);
+        return contentLoader;
     }
 
     /**
@@ -110,14 +134,13 @@ public abstract class URLContentCacheBase {
     }
 
     /**
-     * Retrieves the cached content asyncronuously for {code urlString} and
-     * passes it to {@code contentConsumer}. If no cached content exists the
-     * content loaded and cached and then passed to {@code contentConsumer}.
+     * Retrieves the cached content for {code urlString}. If no cached content
+     * exists the content is loaded and cached on the calling thread.
      *
      * @param urlString the string of the URL content to get
      *
-     * @return a Supplier of InputStream in case content was loaded or
-     * {@code null}
+     * @return the content or {@link URLContent#NO_CONTENT} in case loading it
+     * failed
      */
     public final URLContent getCachedOrLoad(final String urlString) {
         try {
@@ -138,29 +161,544 @@ public abstract class URLContentCacheBase {
      * @param contentConsumer the Consumer processing the content
      */
     public final void getCachedOrLoad(final String urlString, final Consumer<URLContent> contentConsumer) {
+        getCachedOrLoad(urlString, LoadPriority.ON_SCREEN_SOON, contentConsumer);
+    }
+
+    /**
+     * Retrieves the cached content asyncronuously for {code urlString} like
+     * {@link #getCachedOrLoad(java.lang.String, java.util.function.Consumer)}
+     * but loads it with the given {@code priority}. In case the queue of loads
+     * of that priority is full the content is loaded on the calling thread
+     * unless it is a {@link LoadPriority#PREFETCH}, which is dropped.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @param priority the priority of loading the content
+     *
+     * @param contentConsumer the Consumer processing the content
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public final void getCachedOrLoad(final String urlString, final LoadPriority priority, final Consumer<URLContent> contentConsumer) {
         Objects.requireNonNull(urlString, "urlString must not be null");
         Objects.requireNonNull(contentConsumer, "contentConsumer must not be null");
 
-        contentLoader.execute(() -> {
-            try {
-                final URLContent content = getCachedOrLoadSync(urlString);
-                contentConsumer.accept(content);
-            } catch (final IOException ioe) {
-                LOG.error(MESSAGE_LOAD_FAILED, cacheName, urlString, ioe);
+        getCachedOrLoadAsync(urlString, priority).whenComplete((content, t) -> {
+            if (null == t) {
+                acceptContent(urlString, content, contentConsumer);
+            } else if (t instanceof RejectedExecutionException && LoadPriority.PREFETCH != priority) {
+                // rejected right away, so this runs on the calling thread
+                LOG.warn("{}: Loading '{}' on the calling thread as the queue is full", cacheName, urlString);
+                acceptContent(urlString, getCachedOrLoad(urlString), contentConsumer);
+            } else {
+                LOG.error(MESSAGE_LOAD_FAILED, cacheName, urlString, t);
             }
         });
     }
 
+    /**
+     * Retrieves the cached content for {@code urlString} asynchronously. If no
+     * cached content exists the content is loaded and cached.
+     *
+     * <p>
+     * Every call returns a future of its own. Cancelling it or completing it
+     * otherwise (e.g. via {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)})
+     * prevents the load in case it has not yet started. A load already
+     * running is not interrupted since other callers may share it.
+     *
+     * <p>
+     * The content is loaded with a priority of
+     * {@link LoadPriority#FOREGROUND}.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @return the future of the content
+     */
+    public final CompletableFuture<URLContent> getCachedOrLoadAsync(final String urlString) {
+        return getCachedOrLoadAsync(urlString, LoadPriority.FOREGROUND);
+    }
+
+    /**
+     * Retrieves the cached content for {@code urlString} asynchronously like
+     * {@link #getCachedOrLoadAsync(java.lang.String)} but loads it with the
+     * given {@code priority}. In case the queue of loads of that priority is
+     * full the returned future is completed exceptionally with a
+     * {@link RejectedExecutionException}.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @param priority the priority of loading the content
+     *
+     * @return the future of the content, being already completed in case the
+     * content is cached
+     */
+    public final CompletableFuture<URLContent> getCachedOrLoadAsync(final String urlString, final LoadPriority priority) {
+        Objects.requireNonNull(urlString, "urlString must not be null");
+        final URLContent cachedContent = urlContentCache.get(urlString);
+
+        if (null != cachedContent) {
+            return CompletableFuture.completedFuture(cachedContent);
+        }
+
+        final CompletableFuture<URLContent> result = new CompletableFuture<>();
+
+        try {
+            execute(priority, () -> {
+                if (result.isDone()) {
+                    LOG.debug("{}: Skipping load of '{}' as it is no longer requested", cacheName, urlString);
+                    return;
+                }
+
+                try {
+                    result.complete(getCachedOrLoadSync(urlString));
+                } catch (final IOException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException ree) {
+            result.completeExceptionally(ree);
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the cached content for {@code urlString} asynchronously like
+     * {@link #getCachedOrLoadAsync(java.lang.String)} but completes the
+     * returned future exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} in case the content is not
+     * available within {@code timeout}.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @param timeout the maximum time to wait for the content
+     *
+     * @return the future of the content
+     */
+    public final CompletableFuture<URLContent> getCachedOrLoadAsync(final String urlString, final Duration timeout) {
+        return getCachedOrLoadAsync(urlString).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Retrieves the contents for all of the {@code urlStrings} asynchronously.
+     * The returned future is completed once all loads have completed and
+     * contains the contents of the successful ones.
+     *
+     * @param urlStrings the strings of the URL contents to get
+     *
+     * @return the future of the contents mapped by their URL string
+     */
+    public final CompletableFuture<Map<String, URLContent>> getAll(final Collection<String> urlStrings) {
+        return getAll(urlStrings, urlStrings.size());
+    }
+
+    /**
+     * Retrieves the contents for the {@code urlStrings} asynchronously. The
+     * returned future is completed as soon as {@code quorum} loads have
+     * succeeded or all loads have completed and contains the contents loaded
+     * up to that moment. Loads not completed by then continue to fill the
+     * cache unless the returned future is cancelled or completed otherwise
+     * beforehand (e.g. due to a timeout). The contents are loaded with a
+     * priority of {@link LoadPriority#ON_SCREEN_SOON}.
+     *
+     * @param urlStrings the strings of the URL contents to get
+     *
+     * @param quorum the number of contents to await
+     *
+     * @return the future of the contents mapped by their URL string
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public final CompletableFuture<Map<String, URLContent>> getAll(final Collection<String> urlStrings, final int quorum) {
+        final Set<String> distinctUrlStrings = new LinkedHashSet<>(urlStrings);
+
+        if (distinctUrlStrings.isEmpty() || quorum < 1) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        final Map<String, URLContent> contents = new ConcurrentHashMap<>();
+        final AtomicInteger pendingLoads = new AtomicInteger(distinctUrlStrings.size());
+        final CompletableFuture<Map<String, URLContent>> result = new CompletableFuture<>();
+        final List<CompletableFuture<URLContent>> loads = distinctUrlStrings.stream()
+                .map(urlString -> {
+                    final CompletableFuture<URLContent> load = getCachedOrLoadAsync(urlString, LoadPriority.ON_SCREEN_SOON);
+                    load.whenComplete((content, t) -> {
+                        if (null == t) {
+                            contents.put(urlString, content);
+
+                            if (contents.size() >= quorum) {
+                                result.complete(Map.copyOf(contents));
+                            }
+                        } else if (!result.isDone()) {
+                            LOG.warn(MESSAGE_LOAD_FAILED, cacheName, urlString, t);
+                        }
+
+                        if (0 == pendingLoads.decrementAndGet()) {
+                            result.complete(Map.copyOf(contents));
+                        }
+                    });
+                    return load;
+                })
+                .toList();
+
+        result.whenComplete((m, t) -> {
+            if (null != t) {
+                // no longer interested in the loads not yet started
+                loads.forEach(load -> load.cancel(false));
+            }
+        });
+
+        return result;
+    }
+
+    private void acceptContent(final String urlString, final URLContent content, final Consumer<URLContent> contentConsumer) {
+        try {
+            contentConsumer.accept(content);
+        } catch (final RuntimeException re) {
+            LOG.error("{}: Processing content from {} failed", cacheName, urlString, re);
+        }
+    }
+
     private URLContent getCachedOrLoadSync(final String urlString) throws IOException {
         Objects.requireNonNull(urlString, "urlString must not be null");
-        URLContent urlc = urlContentCache.get(urlString);
+        final URLContent urlc = urlContentCache.get(urlString);
+
+        return null == urlc
+                ? awaitLoad(load(urlString, true))
+                : urlc;
+    }
+
+    /**
+     * Loads the content from {@code urlString} and caches it. In case a load
+     * of {@code urlString} is already in flight no additional load is started
+     * but the one in flight is shared. Otherwise the load is performed on the
+     * calling thread.
+     *
+     * <p>
+     * The load remains registered as being in flight until the loaded content
+     * has been cached, so a concurrent cache miss of {@code urlString} either
+     * shares the load or finds the cached content.
+     *
+     * @param urlString the string of the URL content to load
+     *
+     * @param useCachedContent flag indicating that content already being cached
+     * is to be returned instead of being loaded again
+     *
+     * @return the future of the loaded content
+     */
+    private CompletableFuture<URLContent> load(final String urlString, final boolean useCachedContent) {
+        final CompletableFuture<URLContent> load = new CompletableFuture<>();
+        final CompletableFuture<URLContent> inFlightLoad = inFlightLoads.putIfAbsent(urlString, load);
 
-        if (null == urlc) {
-            urlc = URLContent.of(urlString);
-            putCachedContent(urlString, urlc);
+        if (null != inFlightLoad) {
+            LOG.debug("{}: Joining load in flight for '{}'", cacheName, urlString);
+            coalescedLoads.increment();
+            return inFlightLoad;
         }
 
-        return urlc;
+        URLContent content = null;
+
+        try {
+            // a concurrent load may have finished since the cache has been checked
+            final URLContent cachedContent = useCachedContent ? urlContentCache.get(urlString) : null;
+
+            if (null == cachedContent) {
+                loads.increment();
+                final long start = System.nanoTime();
+
+                try {
+                    content = loadContent(urlString);
+                } catch (final IOException | RuntimeException e) {
+                    urlContentCache.recordLoad(System.nanoTime() - start, false);
+                    throw e;
+                }
+
+                urlContentCache.recordLoad(System.nanoTime() - start, true);
+                putCachedContent(urlString, content);
+                load.complete(content);
+            } else {
+                load.complete(cachedContent);
+            }
+        } catch (final IOException | RuntimeException e) {
+            content = null;
+            failedLoads.increment();
+            load.completeExceptionally(e);
+        } finally {
+            inFlightLoads.remove(urlString, load);
+        }
+
+        if (null != content && !variants.isEmpty()) {
+            fillVariantsAsync(urlString, content);
+        }
+
+        return load;
+    }
+
+    /**
+     * Loads the content of {@code urlString} from its origin. The loads of
+     * this cache ensure that this method is not called concurrently for the
+     * same {@code urlString}.
+     *
+     * @param urlString the string of the URL content to load
+     *
+     * @return the loaded content
+     *
+     * @throws IOException in case loading the content fails
+     */
+    protected URLContent loadContent(final String urlString) throws IOException {
+        return URLContent.of(urlString);
+    }
+
+    /**
+     * Registers a named variant of the contents of this cache. Once registered
+     * the variant is computed by the {@code transform} whenever content is
+     * loaded into this cache and cached alongside it. Variants of loaded
+     * content are computed in the background once the original content has
+     * been cached.
+     *
+     * <p>
+     * The {@code variant} name identifies the cached variants, so a name must
+     * not be reused for a different transformation.
+     *
+     * @param variant the name of the variant
+     *
+     * @param transform the transformation computing the variant from the
+     * original content
+     */
+    public final void registerVariant(final String variant, final ContentTransform transform) {
+        Objects.requireNonNull(variant, "variant must not be null");
+        Objects.requireNonNull(transform, "transform must not be null");
+
+        if (null != variants.putIfAbsent(variant, transform)) {
+            LOG.debug("{}: Variant '{}' is already registered", cacheName, variant);
+        }
+    }
+
+    /**
+     * Retrieves the cached {@code variant} of the content for
+     * {@code urlString}. In case the variant is not cached it is computed from
+     * the cached or loaded original content on the calling thread. In case
+     * the variant cannot be computed the original content is returned.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @param variant the name of the registered variant
+     *
+     * @return the content of the variant, the original content or
+     * {@link URLContent#NO_CONTENT} in case loading the original content
+     * failed
+     *
+     * @throws IllegalArgumentException in case no variant of the given name
+     * is registered
+     */
+    public final URLContent getVariant(final String urlString, final String variant) {
+        try {
+            return getVariantSync(urlString, variant);
+        } catch (IOException ex) {
+            LOG.error(MESSAGE_LOAD_FAILED, cacheName, urlString, ex);
+            return NO_CONTENT;
+        }
+    }
+
+    /**
+     * Retrieves the {@code variant} of the content for {@code urlString}
+     * asynchronously like {@link #getVariant(java.lang.String, java.lang.String)}
+     * with the given {@code priority}.
+     *
+     * @param urlString the string of the URL content to get
+     *
+     * @param variant the name of the registered variant
+     *
+     * @param priority the priority of loading the content
+     *
+     * @return the future of the content of the variant, being already
+     * completed in case the variant is cached
+     */
+    public final CompletableFuture<URLContent> getVariantAsync(final String urlString, final String variant, final LoadPriority priority) {
+        Objects.requireNonNull(urlString, "urlString must not be null");
+        final URLContent cachedVariant = urlContentCache.get(variantKey(urlString, variant));
+
+        if (null != cachedVariant) {
+            return CompletableFuture.completedFuture(cachedVariant);
+        }
+
+        final CompletableFuture<URLContent> result = new CompletableFuture<>();
+
+        try {
+            execute(priority, () -> {
+                if (result.isDone()) {
+                    return;
+                }
+
+                try {
+                    result.complete(getVariantSync(urlString, variant));
+                } catch (final IOException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException ree) {
+            result.completeExceptionally(ree);
+        }
+
+        return result;
+    }
+
+    private URLContent getVariantSync(final String urlString, final String variant) throws IOException {
+        Objects.requireNonNull(urlString, "urlString must not be null");
+        final ContentTransform transform = variants.get(variant);
+
+        if (null == transform) {
+            throw new IllegalArgumentException("No variant named '" + variant + "' is registered");
+        }
+
+        final URLContent cachedVariant = urlContentCache.get(variantKey(urlString, variant));
+
+        if (null != cachedVariant) {
+            return cachedVariant;
+        }
+
+        final URLContent original = getCachedOrLoadSync(urlString);
+        final URLContent computedVariant = urlContentCache.computeIfAbsent(
+                variantKey(urlString, variant),
+                key -> transform(urlString, variant, transform, original));
+
+        return null == computedVariant ? original : computedVariant;
+    }
+
+    /**
+     * Computes the variants of the already cached {@code content} in the
+     * background so that neither the load nor a concurrent cache miss waits
+     * for the transformations. In case the variants cannot be queued they are
+     * computed on demand by {@link #getVariant(java.lang.String, java.lang.String)}.
+     */
+    private void fillVariantsAsync(final String urlString, final URLContent content) {
+        try {
+            execute(LoadPriority.PREFETCH, () -> fillVariants(urlString, content));
+        } catch (final RejectedExecutionException ree) {
+            LOG.debug("{}: Variants of '{}' are computed on demand as the queue is full", cacheName, urlString);
+        }
+    }
+
+    private void fillVariants(final String urlString, final URLContent content) {
+        variants.forEach((variant, transform) -> {
+            final URLContent variantContent = transform(urlString, variant, transform, content);
+
+            if (null != variantContent) {
+                urlContentCache.put(variantKey(urlString, variant), variantContent);
+            }
+        });
+    }
+
+    private URLContent transform(final String urlString, final String variant, final ContentTransform transform, final URLContent content) {
+        if (0 == content.size()) {
+            // nothing to derive a variant from
+            return null;
+        }
+
+        try {
+            return URLContent.of(variantKey(urlString, variant), transform.transform(content));
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("{}: Failed to create variant '{}' of {}", cacheName, variant, urlString, e);
+            return null;
+        }
+    }
+
+    private static String variantKey(final String urlString, final String variant) {
+        return "variant:" + variant + ":" + urlString;
+    }
+
+    private static URLContent awaitLoad(final CompletableFuture<URLContent> load) throws IOException {
+        try {
+            return load.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+
+            throw ce;
+        }
+    }
+
+    /**
+     * Statistics of the loads performed by a {@link URLContentCacheBase}.
+     *
+     * <p>
+     * Param {@code loads} the number of loads actually performed
+     *
+     * <p>
+     * Param {@code coalescedLoads} the number of loads that joined a load of
+     * the same URL already in flight instead of loading it again
+     *
+     * <p>
+     * Param {@code failedLoads} the number of loads that failed
+     *
+     * <p>
+     * Param {@code inFlightLoads} the number of loads currently in flight
+     */
+    public record LoadStatistics(
+            long loads,
+            long coalescedLoads,
+            long failedLoads,
+            int inFlightLoads) {
+    }
+
+    /**
+     * {@return the statistics of the loads performed by this cache}
+     */
+    public final LoadStatistics getLoadStatistics() {
+        return new LoadStatistics(
+                loads.sum(),
+                coalescedLoads.sum(),
+                failedLoads.sum(),
+                inFlightLoads.size());
+    }
+
+    /**
+     * Statistics of the loads of a {@link LoadPriority}.
+     *
+     * <p>
+     * Param {@code queued} the number of loads currently queued
+     *
+     * <p>
+     * Param {@code executed} the number of loads started
+     *
+     * <p>
+     * Param {@code rejected} the number of loads rejected since the queue was
+     * full
+     */
+    public record QueueStatistics(
+            int queued,
+            long executed,
+            long rejected) {
+    }
+
+
+    /**
+     * {@return the statistics of the queued loads per priority, empty in case
+     * the loads are not executed by priority}
+     */
+    public final Map<LoadPriority, QueueStatistics> getQueueStatistics() {
+        return contentLoader instanceof PriorityContentLoader priorityContentLoader
+                ? priorityContentLoader.getStatistics()
+                : Map.of();
+    }
+
+    /**
+     * Retrieves the number of bytes currently occupied by this cache in each
+     * of its storage tiers (e.g. {@code OnHeap} or {@code Disk}). Tiers not
+     * measuring their size in bytes (like a heap tier sized in entries) report
+     * {@code -1}.
+     *
+     * @return the number of bytes occupied keyed by tier name
+     */
+    public final Map<String, Long> getByteUsage() {
+        final CacheMetrics metrics = urlContentCache.getMetrics();
+
+        if (null == metrics) {
+            return Map.of();
+        }
+
+        final Map<String, Long> byteUsage = new TreeMap<>();
+        metrics.snapshot().tiers().forEach((tier, usage) -> byteUsage.put(tier, usage.occupiedBytes()));
+        return Collections.unmodifiableMap(byteUsage);
     }
 
     /**
@@ -172,13 +710,23 @@ public abstract class URLContentCacheBase {
      */
     public final void putCachedContent(final String urlString, final InputStream content) {
         try {
-            putCachedContent(urlString, URLContent.of(urlString, content));
+            final URLContent urlContent = URLContent.of(urlString, content);
+            putCachedContent(urlString, urlContent);
+            fillVariantsAsync(urlString, urlContent);
         } catch (IOException ex) {
             LOG.error("{}: Failed to read content from InputStream for {}", cacheName, urlString, ex);
         }
     }
 
-    private void putCachedContent(final String urlString, final URLContent content) {
+    /**
+     * Adds the already loaded {@code content} to the cache under the
+     * {@code urlString} key.
+     *
+     * @param urlString the string of the URL to cache
+     *
+     * @param content the content to cache
+     */
+    protected final void putCachedContent(final String urlString, final URLContent content) {
         LOG.debug("{}: Setting Content for '{}'", cacheName, urlString);
         urlContentCache.put(urlString, content);
     }
@@ -186,7 +734,8 @@ public abstract class URLContentCacheBase {
     /**
      * Loads the content from {@code urlString} and adds that content to the
      * cache under the key {@code urlString} in case loading the content
-     * succeeded.
+     * succeeded. The content is loaded with a priority of
+     * {@link LoadPriority#PREFETCH}.
      *
      * @param urlString the string of the URL to cache
      */
@@ -196,7 +745,10 @@ public abstract class URLContentCacheBase {
 
     /**
      * Puts the content of the provided {@code urlString} into the cache (should
-     * loading succeed).
+     * loading succeed). The content is loaded with a priority of
+     * {@link LoadPriority#PREFETCH}. In case the queue of loads of that
+     * priority is full the load is dropped with a warning and
+     * {@code contentConsumer} is not called.
      *
      * @param urlString the string of the URL to cache
      *
@@ -207,35 +759,46 @@ public abstract class URLContentCacheBase {
     }
 
     private void putCachedContentAsync(final String urlString, final Consumer<URLContent> contentConsumer) {
-        contentLoader.execute(() -> {
-            try {
-                final URLContent content = URLContent.of(urlString);
-                putCachedContent(urlString, content);
+        try {
+            execute(LoadPriority.PREFETCH, () -> {
+                try {
+                    final URLContent content = awaitLoad(load(urlString, false));
 
-                if (null != contentConsumer) {
-                    contentConsumer.accept(content);
+                    if (null != contentConsumer) {
+                        contentConsumer.accept(content);
+                    }
+                } catch (final IOException ioe) {
+                    LOG.error(MESSAGE_LOAD_FAILED, cacheName, urlString, ioe);
                 }
-            } catch (final IOException ioe) {
-                LOG.error(MESSAGE_LOAD_FAILED, cacheName, urlString, ioe);
+            });
+        } catch (final RejectedExecutionException ree) {
+            if (null == contentConsumer) {
+                LOG.warn("{}: Dropped prefetch of '{}' as the queue is full", cacheName, urlString);
+            } else {
+                LOG.warn("{}: Dropped prefetch of '{}' as the queue is full, its content will not be processed", cacheName, urlString);
             }
-        });
+        }
+    }
+
+    private void execute(final LoadPriority priority, final Runnable command) {
+        if (contentLoader instanceof PriorityContentLoader priorityContentLoader) {
+            priorityContentLoader.execute(priority, command);
+        } else {
+            contentLoader.execute(command);
+        }
     }
 
     public static URLContentCacheBase getDefault() {
         return Default.INSTANCE;
     }
 
-    private static Executor createExecutor(final int nrThreads, final String name) {
+    private static PriorityContentLoader createExecutor(final int nrThreads, final int queueCapacity, final String name) {
         final ThreadFactory threadFactory = Thread.ofPlatform()
                 .name("contentLoader", 1).group(new ThreadGroup(THREAD_GROUP, name))
                 .daemon(true)
                 .factory();
 
-        if (nrThreads < 2) {
-            return Executors.newSingleThreadExecutor(threadFactory);
-        } else {
-            return Executors.newFixedThreadPool(nrThreads, threadFactory);
-        }
+        return new PriorityContentLoader(nrThreads, threadFactory, queueCapacity);
     }
 
     private static final class Default extends URLContentCacheBase {
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.ehcache.config.EvictionAdvisor;
+
+/**
+ * Advises against evicting {@link URLContent} that is small compared to the
+ * content typically held by a cache. Among the entries sampled for eviction
+ * ehcache picks the least recently used one that is not advised against, so
+ * large content is evicted before small content of similar recency. Small
+ * content is still evicted in case all sampled entries are small.
+ *
+ * <p>
+ * The typical size is estimated as a moving average of the sizes of the
+ * entries being sampled.
+ */
+final class URLContentEvictionAdvisor implements EvictionAdvisor<Object, Object> {
+
+    private static final int AVERAGE_WEIGHT = 16;
+    private final AtomicLong averageSize = new AtomicLong();
+
+    @Override
+    public boolean adviseAgainstEviction(final Object key, final Object value) {
+        if (!(value instanceof URLContent content)) {
+            return false;
+        }
+
+        final long size = content.size();
+        final long average = averageSize.updateAndGet(a -> 0 == a ? size : a + (size - a) / AVERAGE_WEIGHT);
+
+        return size < average / 2;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class CacheMetricsTest {
+    @Mock
+    private CacheStatistics cacheStatistics;
+    @Mock
+    private TierStatistics tierStatistics;
+
+    @Test
+    void snapshotCombinesStatisticsAndLatencies() {
+        when(cacheStatistics.getCacheHits()).thenReturn(3L);
+        when(cacheStatistics.getCacheMisses()).thenReturn(1L);
+        when(cacheStatistics.getCacheEvictions()).thenReturn(2L);
+        when(cacheStatistics.getTierStatistics()).thenReturn(Map.of("OnHeap", tierStatistics));
+        when(tierStatistics.getMappings()).thenReturn(4L);
+        when(tierStatistics.getOccupiedByteSize()).thenReturn(1024L);
+        final CacheMetrics metrics = new CacheMetrics("test", () -> cacheStatistics);
+
+        metrics.recordGet(TimeUnit.MICROSECONDS.toNanos(3));
+        metrics.recordLoad(TimeUnit.MILLISECONDS.toNanos(5), true);
+        metrics.recordLoad(TimeUnit.MILLISECONDS.toNanos(1), false);
+        final CacheMetrics.Snapshot snapshot = metrics.snapshot();
+
+        assertThat(snapshot.alias()).isEqualTo("test");
+        assertThat(snapshot.hitPercentage()).isEqualTo(75.0);
+        assertThat(snapshot.evictions()).isEqualTo(2L);
+        assertThat(snapshot.failedLoads()).isEqualTo(1L);
+        assertThat(snapshot.tiers()).containsOnlyKeys("OnHeap");
+        assertThat(snapshot.tiers().get("OnHeap").occupiedBytes()).isEqualTo(1024L);
+        assertThat(snapshot.getLatency().count()).isEqualTo(1L);
+        assertThat(snapshot.getLatency().p99()).isEqualTo(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(4)));
+        assertThat(snapshot.loadLatency().count()).isEqualTo(1L);
+        assertThat(snapshot.loadLatency().max()).isEqualTo(Duration.ofMillis(5));
+        assertThat(snapshot.loadLatency().p50()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+    }
+}
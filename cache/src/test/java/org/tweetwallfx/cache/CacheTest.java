@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class CacheTest {
+    @Mock
+    private org.ehcache.Cache<String, String> ehcache;
+    @Mock
+    private CacheMetrics metrics;
+    private Cache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new Cache<>(ehcache, metrics, new HotKeys(0));
+    }
+
+    @Test
+    void putIfAbsentReportsWhetherValueWasSet() {
+        when(ehcache.putIfAbsent("one", "value")).thenReturn(null);
+        when(ehcache.putIfAbsent("two", "value")).thenReturn("existing");
+        assertThat(cache.putIfAbsent("one", "value")).isTrue();
+        assertThat(cache.putIfAbsent("two", "value")).isFalse();
+    }
+
+    @Test
+    void computeIfAbsentReturnsExistingValueWithoutLoading() {
+        when(ehcache.get("one")).thenReturn("existing");
+        assertThat(cache.computeIfAbsent("one", key -> "computed")).isEqualTo("existing");
+        verify(ehcache, never()).putIfAbsent("one", "computed");
+    }
+
+    @Test
+    void computeIfAbsentReturnsConcurrentlyAddedValue() {
+        when(ehcache.putIfAbsent("one", "computed")).thenReturn("concurrent");
+        when(ehcache.putIfAbsent("two", "computed")).thenReturn(null);
+        assertThat(cache.computeIfAbsent("one", key -> "computed")).isEqualTo("concurrent");
+        assertThat(cache.computeIfAbsent("two", key -> "computed")).isEqualTo("computed");
+    }
+
+    @Test
+    void getAllLoadsMissingKeysInBulk() {
+        final Map<String, String> cached = new HashMap<>();
+        cached.put("one", "existing");
+        cached.put("two", null);
+        when(ehcache.getAll(Set.of("one", "two"))).thenReturn(cached);
+
+        assertThat(cache.getAll(Set.of("one", "two"), keys -> {
+            assertThat(keys).containsOnly("two");
+            return Map.of("two", "computed");
+        })).containsOnly(Map.entry("one", "existing"), Map.entry("two", "computed"));
+        verify(ehcache).putAll(Map.of("two", "computed"));
+    }
+
+    @Test
+    void removeReportsWhetherMappingWasRemoved() {
+        when(ehcache.containsKey("one")).thenReturn(true);
+        assertThat(cache.remove("one")).isTrue();
+        assertThat(cache.remove("two")).isFalse();
+        verify(ehcache).remove("one");
+        verify(ehcache).remove("two");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@MockitoSettings
+class CacheWarmStartTest {
+    @Mock
+    private org.ehcache.Cache<String, URLContent> ehcache;
+
+    @Test
+    void hotKeysAreOrderedByAccesses() {
+        final HotKeys hotKeys = new HotKeys(2);
+
+        hotKeys.record("one");
+        hotKeys.record("two");
+        hotKeys.record("two");
+        hotKeys.record("three");
+        hotKeys.record("three");
+        hotKeys.record("three");
+        hotKeys.record("multi\nline");
+        hotKeys.record(42);
+
+        assertThat(hotKeys.hottest()).containsExactly("three", "two");
+    }
+
+    @Test
+    void hotKeysAreTrimmedToBoundedSize() {
+        final HotKeys hotKeys = new HotKeys(2);
+
+        for (int i = 0; i < 100; i++) {
+            hotKeys.record("hot");
+            hotKeys.record("cold-" + i);
+        }
+
+        assertThat(hotKeys.hottest()).hasSize(2).startsWith("hot");
+    }
+
+    @Test
+    void recordedHotKeysArePreloadedOnNextStart(@TempDir final Path directory) {
+        final Map<String, CacheSettings.CacheSetting> settings = Map.of(
+                "warm", new CacheSettings.CacheSetting("java.lang.String", URLContent.class.getName(), null, null, null, 10, null),
+                "cold", new CacheSettings.CacheSetting("java.lang.String", URLContent.class.getName(), null, null, null, null, null));
+        final CacheWarmStart previousRun = new CacheWarmStart(directory, settings);
+        previousRun.hotKeys("warm").record("file:///one");
+        previousRun.hotKeys("cold").record("file:///two");
+        previousRun.save();
+
+        final CacheWarmStart nextRun = new CacheWarmStart(directory, settings);
+        assertThat(nextRun.preload(alias -> ehcache)).succeedsWithin(Duration.ofSeconds(5));
+
+        verify(ehcache).get("file:///one");
+        assertThat(nextRun.hotKeys("warm").hottest()).containsExactly("file:///one");
+        assertThat(nextRun.hotKeys("cold").hottest()).isEmpty();
+        assertThat(directory).isDirectoryNotContaining("glob:**/cold.keys");
+    }
+
+    @Test
+    void missingSnapshotPreloadsNothing(@TempDir final Path directory) {
+        final CacheWarmStart warmStart = new CacheWarmStart(directory, Map.of(
+                "warm", new CacheSettings.CacheSetting("java.lang.String", URLContent.class.getName(), null, null, null, 10, List.of())));
+
+        assertThat(warmStart.preload(alias -> ehcache)).succeedsWithin(Duration.ofSeconds(5));
+        verifyNoInteractions(ehcache);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DecodedImageCacheTest {
+
+    private final List<DecodedImageCache.Key> decodedKeys = new ArrayList<>();
+
+    @Test
+    void imagesAreDecodedOncePerDigestAndSize() throws IOException {
+        final DecodedImageCache cache = new DecodedImageCache(1_000, this::decode);
+        final URLContent content = content("one");
+
+        final Image image = cache.get(content, 10, 10, true, false);
+        assertThat(cache.get(URLContent.of("file:///other", "one".getBytes(StandardCharsets.UTF_8)), 10, 10, true, false)).isSameAs(image);
+        assertThat(cache.get(content, 20, 20, true, false)).isNotSameAs(image);
+        assertThat(cache.get(content, 10, 10, true, true)).isNotSameAs(image);
+        assertThat(decodedKeys).hasSize(3);
+    }
+
+    @Test
+    void imagesExceedingThePixelBudgetAreRetainedSoftly() throws IOException {
+        final DecodedImageCache cache = new DecodedImageCache(100, this::decode);
+        final URLContent first = content("one");
+        final URLContent second = content("two");
+
+        final Image firstImage = cache.get(first, 10, 6, false, false);
+        final Image secondImage = cache.get(second, 10, 6, false, false);
+        assertThat(cache.getRetainedPixels()).isEqualTo(60);
+
+        // the test still references the image so it cannot have been collected
+        assertThat(cache.get(first, 10, 6, false, false)).isSameAs(firstImage);
+        assertThat(cache.get(second, 10, 6, false, false)).isSameAs(secondImage);
+        assertThat(cache.getRetainedPixels()).isEqualTo(60);
+        assertThat(decodedKeys).hasSize(2);
+    }
+
+    @Test
+    void contentIsOnlySuppliedForImagesNotDecodedYet() throws IOException {
+        final DecodedImageCache cache = new DecodedImageCache(1_000, this::decode);
+        final URLContent content = content("one");
+        final AtomicInteger supplied = new AtomicInteger();
+
+        final Image image = cache.get(content.digest(), () -> {
+            supplied.incrementAndGet();
+            return content;
+        });
+        assertThat(cache.get(content.digest(), () -> {
+            supplied.incrementAndGet();
+            return content;
+        })).isSameAs(image);
+        assertThat(supplied).hasValue(1);
+        assertThat(decodedKeys).hasSize(1);
+    }
+
+    @Test
+    void failedDecodesAreNotCached() throws IOException {
+        final Image errorImage = mock(Image.class);
+        when(errorImage.isError()).thenReturn(true);
+        final DecodedImageCache cache = new DecodedImageCache(1_000, (content, key) -> {
+            decodedKeys.add(key);
+            return errorImage;
+        });
+        final URLContent content = content("broken");
+
+        assertThat(cache.get(content)).isSameAs(errorImage);
+        assertThat(cache.get(content)).isSameAs(errorImage);
+        assertThat(decodedKeys).hasSize(2);
+        assertThat(cache.getRetainedPixels()).isZero();
+    }
+
+    private Image decode(final URLContent content, final DecodedImageCache.Key key) {
+        decodedKeys.add(key);
+        final Image image = mock(Image.class);
+        when(image.getWidth()).thenReturn(key.requestedWidth());
+        when(image.getHeight()).thenReturn(key.requestedHeight());
+        return image;
+    }
+
+    private static URLContent content(final String data) throws IOException {
+        return URLContent.of("file:///" + data, data.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ImagePreparationServiceTest {
+
+    private final List<Runnable> decodes = new ArrayList<>();
+    private final DecodedImageCache imageCache = new DecodedImageCache(1_000, (content, key) -> mock(Image.class));
+    private final ImagePreparationService service = new ImagePreparationService(imageCache, decodes::add);
+
+    @Test
+    void imagesAreDecodedOnWorkerThreadOnceContentIsAvailable() throws IOException {
+        final CompletableFuture<URLContent> content = new CompletableFuture<>();
+        final CompletableFuture<Image> image = service.prepare(content, 10, 10, true, true);
+
+        content.complete(content("one"));
+        assertThat(image).isNotDone();
+        assertThat(decodes).hasSize(1);
+
+        decodes.forEach(Runnable::run);
+        assertThat(image).isCompletedWithValue(imageCache.getIfDecoded(content("one"), 10, 10, true, true).orElseThrow());
+    }
+
+    @Test
+    void decodedImagesAreReadyImmediately() throws IOException {
+        final Image decoded = imageCache.get(content("one"));
+        final Image placeholder = mock(Image.class);
+        final List<Image> readyImages = new ArrayList<>();
+
+        assertThat(service.prepare(CompletableFuture.completedFuture(content("one")))).isCompletedWithValue(decoded);
+        assertThat(service.getReadyOrPlaceholder(CompletableFuture.completedFuture(content("one")), placeholder, readyImages::add))
+                .isSameAs(decoded);
+        assertThat(decodes).isEmpty();
+        assertThat(readyImages).isEmpty();
+    }
+
+    @Test
+    void failedContentKeepsPlaceholder() {
+        final Image placeholder = mock(Image.class);
+        final List<Image> readyImages = new ArrayList<>();
+
+        assertThat(service.getReadyOrPlaceholder(CompletableFuture.failedFuture(new IOException("failed")), placeholder, readyImages::add))
+                .isSameAs(placeholder);
+        assertThat(decodes).isEmpty();
+        assertThat(readyImages).isEmpty();
+    }
+
+    private static URLContent content(final String data) throws IOException {
+        return URLContent.of("file:///" + data, data.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriorityContentLoaderTest {
+
+    @Test
+    void queuedLoadsAreExecutedByPriority() throws InterruptedException {
+        final PriorityContentLoader loader = new PriorityContentLoader(1, Thread.ofPlatform().daemon(true).factory(), 10);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+        final List<LoadPriority> executed = new CopyOnWriteArrayList<>();
+
+        loader.execute(LoadPriority.FOREGROUND, () -> {
+            blocked.countDown();
+            awaitUninterruptibly(release);
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (final LoadPriority priority : List.of(LoadPriority.PREFETCH, LoadPriority.ON_SCREEN_SOON, LoadPriority.FOREGROUND)) {
+            loader.execute(priority, () -> {
+                executed.add(priority);
+                done.countDown();
+            });
+        }
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(LoadPriority.FOREGROUND, LoadPriority.ON_SCREEN_SOON, LoadPriority.PREFETCH);
+        assertThat(loader.getStatistics().get(LoadPriority.FOREGROUND))
+                .isEqualTo(new URLContentCacheBase.QueueStatistics(0, 2, 0));
+    }
+
+    @Test
+    void loadsExceedingQueueCapacityAreRejected() throws InterruptedException {
+        final PriorityContentLoader loader = new PriorityContentLoader(1, Thread.ofPlatform().daemon(true).factory(), 1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        loader.execute(LoadPriority.FOREGROUND, () -> {
+            blocked.countDown();
+            awaitUninterruptibly(release);
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        loader.execute(LoadPriority.PREFETCH, () -> {
+        });
+
+        assertThatThrownBy(() -> loader.execute(LoadPriority.PREFETCH, () -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        loader.execute(LoadPriority.FOREGROUND, () -> {
+        });
+        assertThat(loader.getStatistics().get(LoadPriority.PREFETCH))
+                .isEqualTo(new URLContentCacheBase.QueueStatistics(1, 0, 1));
+        release.countDown();
+    }
+
+    @Test
+    void shutdownStopsWorkersAndRejectsLoads() throws InterruptedException {
+        final List<Thread> workers = new CopyOnWriteArrayList<>();
+        final PriorityContentLoader loader = new PriorityContentLoader(1, runnable -> {
+            final Thread worker = Thread.ofPlatform().daemon(true).unstarted(runnable);
+            workers.add(worker);
+            return worker;
+        }, 10);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> executed = new CopyOnWriteArrayList<>();
+
+        loader.execute(LoadPriority.FOREGROUND, () -> {
+            blocked.countDown();
+            awaitUninterruptibly(release);
+            executed.add("running");
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        loader.execute(LoadPriority.FOREGROUND, () -> executed.add("queued"));
+
+        loader.shutdown();
+        release.countDown();
+
+        // the running load finishes while the queued one is discarded
+        assertThat(workers).singleElement().satisfies(worker -> assertThat(worker.join(Duration.ofSeconds(5))).isTrue());
+        assertThat(executed).containsExactly("running");
+        assertThatThrownBy(() -> loader.execute(LoadPriority.FOREGROUND, () -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
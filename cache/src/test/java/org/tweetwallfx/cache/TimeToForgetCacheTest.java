@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MockitoSettings
+class TimeToForgetCacheTest {
+    @Mock
+    private CacheMetrics metrics;
+    private final List<Runnable> pendingLoads = new ArrayList<>();
+    private final List<String> receivedETags = new CopyOnWriteArrayList<>();
+    private final AtomicInteger version = new AtomicInteger(1);
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private CacheManager cacheManager;
+    private Cache<String, URLContent> urlContentCache;
+    private TimeToForgetCache timeToForgetCache;
+    private HttpServer server;
+    private URI uri;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheManager = CacheManagerBuilder.newCacheManagerBuilder()
+                .withCache("test", CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        String.class,
+                        URLContent.class,
+                        ResourcePoolsBuilder.heap(10)))
+                .build(true);
+        urlContentCache = new Cache<>(cacheManager.getCache("test", String.class, URLContent.class), metrics, new HotKeys(0));
+        timeToForgetCache = new TimeToForgetCache("test", urlContentCache, pendingLoads::add);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/content", this::respond);
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/content");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        cacheManager.close();
+    }
+
+    @Test
+    void notModifiedContentIsCachedAgain() {
+        final Map<String, Object> loaded = timeToForgetCache.getJsonMap(uri);
+        assertThat(loaded).containsEntry("value", "v1");
+        final URLContent loadedContent = urlContentCache.get(uri.toString());
+
+        // forget the entry
+        urlContentCache.remove(uri.toString());
+
+        assertThat(timeToForgetCache.getJsonMap(uri)).isEqualTo(loaded);
+        assertThat(timeToForgetCache.getCachedContent(uri.toString())).isEmpty();
+        runPendingLoads();
+
+        assertThat(receivedETags).containsExactly(null, "\"v1\"");
+        assertThat(notModifiedResponses).hasValue(1);
+        assertThat(timeToForgetCache.getCachedContent(uri.toString())).contains(loadedContent);
+    }
+
+    @Test
+    void staleContentIsServedWhileRevalidating() {
+        assertThat(timeToForgetCache.getJsonMap(uri)).containsEntry("value", "v1");
+
+        // forget the entry and modify the content
+        urlContentCache.remove(uri.toString());
+        version.set(2);
+
+        assertThat(timeToForgetCache.getJsonMap(uri)).containsEntry("value", "v1");
+        runPendingLoads();
+        assertThat(timeToForgetCache.getJsonMap(uri)).containsEntry("value", "v2");
+
+        assertThat(receivedETags).containsExactly(null, "\"v1\"");
+        assertThat(notModifiedResponses).hasValue(0);
+        assertThat(timeToForgetCache.getLoadStatistics().loads()).isEqualTo(2);
+    }
+
+    @Test
+    void missingContentIsCachedAsNoContent() {
+        final String missing = uri.resolve("/missing").toString();
+
+        assertThat(timeToForgetCache.getCachedOrLoad(missing)).isSameAs(URLContent.NO_CONTENT);
+        assertThat(timeToForgetCache.getCachedContent(missing)).contains(URLContent.NO_CONTENT);
+        assertThat(timeToForgetCache.getLoadStatistics().failedLoads()).isZero();
+    }
+
+    private void runPendingLoads() {
+        final List<Runnable> loads = List.copyOf(pendingLoads);
+        pendingLoads.clear();
+        loads.forEach(Runnable::run);
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        final String eTag = "\"v" + version.get() + "\"";
+        final String requestedETag = exchange.getRequestHeaders().getFirst("If-None-Match");
+        receivedETags.add(requestedETag);
+
+        if (eTag.equals(requestedETag)) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        final byte[] body = ("{\"value\":\"v" + version.get() + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("ETag", eTag);
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
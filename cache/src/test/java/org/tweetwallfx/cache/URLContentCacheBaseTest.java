@@ -23,21 +23,50 @@
  */
 package org.tweetwallfx.cache;
 
+import com.sun.net.httpserver.HttpServer;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.tweetwallfx.cache.URLContent.NO_CONTENT;
@@ -50,6 +79,8 @@ class URLContentCacheBaseTest {
     private ExecutorService contentLoader;
     @Mock
     private URLContent cachedValue;
+    @Mock
+    private CacheMetrics metrics;
     private URLContentCacheBase cacheBase;
 
     @BeforeEach
@@ -60,11 +91,9 @@ class URLContentCacheBaseTest {
 
     @Test
     void testGetDefault() {
-        try (var cacheManagerProvider = mockStatic(CacheManagerProvider.class);
-             var executors = mockStatic(Executors.class)) {
+        try (var cacheManagerProvider = mockStatic(CacheManagerProvider.class)) {
             cacheManagerProvider.when(() -> CacheManagerProvider.getCache("default", String.class,
                     URLContent.class)).thenReturn(urlContentCache);
-            executors.when(() -> Executors.newFixedThreadPool(eq(2), isA(ThreadFactory.class))).thenReturn(contentLoader);
             assertThat(URLContentCacheBase.getDefault()).isNotNull();
             verifyNoMoreInteractions(urlContentCache, contentLoader, cachedValue);
         }
@@ -90,8 +119,107 @@ class URLContentCacheBaseTest {
     void getCachedOrLoad() {
         when(urlContentCache.get("file:///one")).thenReturn(null);
         when(urlContentCache.get("file:///two")).thenReturn(cachedValue);
+        // content not found is loaded as NO_CONTENT
         assertThat(cacheBase.getCachedOrLoad("file:///one")).isEqualTo(NO_CONTENT);
         assertThat(cacheBase.getCachedOrLoad("file:///two")).isEqualTo(cachedValue);
+        assertThat(cacheBase.getLoadStatistics()).isEqualTo(new URLContentCacheBase.LoadStatistics(1, 0, 0, 0));
+        verify(urlContentCache).recordLoad(anyLong(), eq(true));
+        verify(urlContentCache).put("file:///one", NO_CONTENT);
+    }
+
+    @Test
+    void concurrentLoadsAreCoalesced() throws Exception {
+        final CountDownLatch responseLatch = new CountDownLatch(1);
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/content", exchange -> {
+            requests.incrementAndGet();
+
+            try {
+                responseLatch.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+
+            final byte[] body = "content".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        try (CacheManager cacheManager = createCacheManager()) {
+            final URLContentCacheBase realCacheBase = new URLContentCacheBase("test", createCache(cacheManager), contentLoader) {
+            };
+            final String urlString = "http://127.0.0.1:" + server.getAddress().getPort() + "/content";
+
+            final CompletableFuture<URLContent> first = CompletableFuture.supplyAsync(() -> realCacheBase.getCachedOrLoad(urlString));
+            awaitCondition(() -> 1 == realCacheBase.getLoadStatistics().inFlightLoads());
+            final CompletableFuture<URLContent> second = CompletableFuture.supplyAsync(() -> realCacheBase.getCachedOrLoad(urlString));
+            awaitCondition(() -> 1 == realCacheBase.getLoadStatistics().coalescedLoads());
+            responseLatch.countDown();
+
+            assertThat(first.get()).isSameAs(second.get());
+            assertThat(first.get().getInputStream()).hasContent("content");
+            // the loaded content is cached by the time the load is no longer in flight
+            assertThat(realCacheBase.getCachedContent(urlString)).contains(first.get());
+            assertThat(realCacheBase.getCachedOrLoad(urlString)).isEqualTo(first.get());
+            assertThat(realCacheBase.getLoadStatistics()).isEqualTo(new URLContentCacheBase.LoadStatistics(1, 1, 0, 0));
+            assertThat(requests).hasValue(1);
+            verify(metrics).recordLoad(anyLong(), eq(true));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getAllReturnsLoadedContents() throws Exception {
+        final URLContentCacheBase directCacheBase = new URLContentCacheBase("test", urlContentCache, Runnable::run) {
+        };
+        when(urlContentCache.get(any())).thenReturn(cachedValue);
+
+        assertThat(directCacheBase.getAll(List.of("file:///one", "file:///two", "file:///one")).get())
+                .containsOnlyKeys("file:///one", "file:///two");
+        assertThat(directCacheBase.getAll(List.of("file:///one", "file:///two"), 1).get())
+                .containsOnlyKeys("file:///one");
+    }
+
+    @Test
+    void getCachedOrLoadAsyncTimesOut() {
+        final CompletableFuture<URLContent> content = cacheBase.getCachedOrLoadAsync("file:///one", Duration.ofMillis(10));
+
+        assertThat(content).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        verify(contentLoader).execute(any(Runnable.class));
+        verify(urlContentCache).get("file:///one");
+        verifyNoMoreInteractions(urlContentCache);
+    }
+
+    @Test
+    void getCachedOrLoadAsyncCompletesCachedContentRightAway() {
+        when(urlContentCache.get("file:///one")).thenReturn(cachedValue);
+
+        assertThat(cacheBase.getCachedOrLoadAsync("file:///one", LoadPriority.PREFETCH)).isCompletedWithValue(cachedValue);
+        verifyNoInteractions(contentLoader);
+    }
+
+    @Test
+    void rejectedLoadIsPerformedOnCallingThreadUnlessPrefetched() {
+        final URLContentCacheBase rejectingCacheBase = new URLContentCacheBase("test", urlContentCache, command -> {
+            throw new RejectedExecutionException("queue is full");
+        }) {
+        };
+        final List<URLContent> consumed = new ArrayList<>();
+
+        rejectingCacheBase.getCachedOrLoad("file:///one", LoadPriority.PREFETCH, consumed::add);
+        assertThat(consumed).isEmpty();
+
+        rejectingCacheBase.getCachedOrLoad("file:///one", LoadPriority.ON_SCREEN_SOON, consumed::add);
+        assertThat(consumed).containsExactly(NO_CONTENT);
+        verify(urlContentCache).put("file:///one", NO_CONTENT);
     }
 
     @Test
@@ -100,4 +228,92 @@ class URLContentCacheBaseTest {
         verify(urlContentCache).put("file:///one", NO_CONTENT);
         verifyNoMoreInteractions(urlContentCache, contentLoader, cachedValue);
     }
+
+    @Test
+    void putCachedContentFillsVariants() throws Exception {
+        cacheBase.registerVariant("upper", content -> new String(content.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+                .toUpperCase(Locale.ROOT)
+                .getBytes(StandardCharsets.UTF_8));
+        cacheBase.putCachedContent("file:///one", new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+        verify(urlContentCache).put("file:///one", URLContent.of("file:///one", "content".getBytes(StandardCharsets.UTF_8)));
+
+        // the variants are computed in the background
+        final ArgumentCaptor<Runnable> fillVariants = ArgumentCaptor.forClass(Runnable.class);
+        verify(contentLoader).execute(fillVariants.capture());
+        verify(urlContentCache, never()).put(eq("variant:upper:file:///one"), any());
+
+        fillVariants.getValue().run();
+        verify(urlContentCache).put("variant:upper:file:///one", URLContent.of("variant:upper:file:///one", "CONTENT".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void variantsAreFilledOnceTheOriginalIsCached(@TempDir final Path tempDir) throws Exception {
+        final String urlString = Files.writeString(tempDir.resolve("content.txt"), "content", StandardCharsets.UTF_8).toUri().toString();
+        final List<Runnable> pendingTasks = new ArrayList<>();
+
+        try (CacheManager cacheManager = createCacheManager()) {
+            final URLContentCacheBase realCacheBase = new URLContentCacheBase("test", createCache(cacheManager), pendingTasks::add) {
+            };
+            realCacheBase.registerVariant("upper", content -> new String(content.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+                    .toUpperCase(Locale.ROOT)
+                    .getBytes(StandardCharsets.UTF_8));
+
+            final URLContent original = realCacheBase.getCachedOrLoad(urlString);
+            assertThat(realCacheBase.getCachedContent(urlString)).contains(original);
+            assertThat(realCacheBase.getCachedContent("variant:upper:" + urlString)).isEmpty();
+            assertThat(pendingTasks).hasSize(1);
+
+            pendingTasks.forEach(Runnable::run);
+            assertThat(realCacheBase.getCachedContent("variant:upper:" + urlString)).hasValueSatisfying(
+                    variant -> assertThat(variant.getInputStream()).hasContent("CONTENT"));
+            assertThat(realCacheBase.getLoadStatistics().loads()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void getVariant() throws Exception {
+        final URLContent original = URLContent.of("file:///one", "content".getBytes(StandardCharsets.UTF_8));
+        cacheBase.registerVariant("failing", content -> {
+            throw new IOException("failed");
+        });
+        cacheBase.registerVariant("reversed", content -> new StringBuilder(new String(content.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .reverse()
+                .toString()
+                .getBytes(StandardCharsets.UTF_8));
+        when(urlContentCache.get(any())).thenAnswer(invocation -> "file:///one".equals(invocation.getArgument(0)) ? original : null);
+        when(urlContentCache.computeIfAbsent(eq("variant:failing:file:///one"), any())).thenAnswer(URLContentCacheBaseTest::computeValue);
+        when(urlContentCache.computeIfAbsent(eq("variant:reversed:file:///one"), any())).thenAnswer(URLContentCacheBaseTest::computeValue);
+
+        assertThat(cacheBase.getVariant("file:///one", "reversed").getInputStream())
+                .hasBinaryContent("tnetnoc".getBytes(StandardCharsets.UTF_8));
+        assertThat(cacheBase.getVariant("file:///one", "failing")).isEqualTo(original);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> cacheBase.getVariant("file:///one", "unknown"));
+    }
+
+    private static CacheManager createCacheManager() {
+        return CacheManagerBuilder.newCacheManagerBuilder()
+                .withCache("test", CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        String.class,
+                        URLContent.class,
+                        ResourcePoolsBuilder.heap(10)))
+                .build(true);
+    }
+
+    private Cache<String, URLContent> createCache(final CacheManager cacheManager) {
+        return new Cache<>(cacheManager.getCache("test", String.class, URLContent.class), metrics, new HotKeys(0));
+    }
+
+    private static URLContent computeValue(final InvocationOnMock invocation) {
+        final Function<String, URLContent> loader = invocation.getArgument(1);
+        return loader.apply(invocation.getArgument(0));
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
 }
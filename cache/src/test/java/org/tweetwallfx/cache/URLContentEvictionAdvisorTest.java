@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class URLContentEvictionAdvisorTest {
+
+    @Test
+    void smallContentIsAdvisedAgainstEviction() throws IOException {
+        final URLContentEvictionAdvisor advisor = new URLContentEvictionAdvisor();
+        final URLContent large = content(64 * 1024);
+        final URLContent small = content(128);
+
+        assertThat(advisor.adviseAgainstEviction("large", large)).isFalse();
+        assertThat(advisor.adviseAgainstEviction("small", small)).isTrue();
+        assertThat(advisor.adviseAgainstEviction("large", large)).isFalse();
+    }
+
+    @Test
+    void otherValuesAreNotAdvisedAgainstEviction() {
+        assertThat(new URLContentEvictionAdvisor().adviseAgainstEviction("key", "value")).isFalse();
+    }
+
+    private static URLContent content(final int size) throws IOException {
+        return URLContent.of("file:///" + size, new ByteArrayInputStream(new byte[size]));
+    }
+}
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
@@ -53,6 +54,18 @@ class URLContentTest {
                 .isEqualTo(URLContent.of("", InputStream.nullInputStream()));
     }
 
+    @Test
+    void byteBufferViewIsReadOnly() throws IOException {
+        URLContent content = URLContent.of("", new ByteArrayInputStream(TEST_DATA));
+        ByteBuffer buffer = content.asByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        assertThat(content.size()).isEqualTo(TEST_DATA.length);
+        assertThat(bytes).isEqualTo(TEST_DATA);
+        assertThat(content.asByteBuffer().isReadOnly()).isTrue();
+    }
+
     @Test
     void serialization() throws IOException {
         URLContent content = URLContent.of("", new ByteArrayInputStream(TEST_DATA));
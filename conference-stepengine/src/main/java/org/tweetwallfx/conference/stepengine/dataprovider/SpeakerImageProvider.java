@@ -25,12 +25,16 @@ package org.tweetwallfx.conference.stepengine.dataprovider;
 
 import static org.tweetwallfx.util.Nullable.nullable;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import javafx.scene.image.Image;
 
+import org.tweetwallfx.cache.DecodedImageCache;
+import org.tweetwallfx.cache.ImagePreparationService;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.conference.api.ConferenceClient;
 import org.tweetwallfx.conference.api.Speaker;
@@ -70,10 +74,33 @@ public final class SpeakerImageProvider implements DataProvider, DataProvider.Sc
                     // look for configured replacement
                     : getSpeakerImage(urlReplacement);
         } else {
-            return new Image(urlc.getInputStream());
+            return DecodedImageCache.INSTANCE.get(urlc);
         }
     }
 
+    /**
+     * Ensures the images of the given {@code speakers} are loaded into the
+     * {@link ProfileImageCache} and decoded so that subsequent calls of
+     * {@link #getSpeakerImage(org.tweetwallfx.conference.api.Speaker)} do not
+     * have to wait for them being loaded or decoded.
+     *
+     * @param speakers the speakers whose images are to be loaded
+     *
+     * @return the future being completed once all images have been loaded and
+     * decoded
+     */
+    public CompletableFuture<Map<String, URLContent>> prefetchSpeakerImages(final Collection<Speaker> speakers) {
+        return ProfileImageCache.INSTANCE.getAll(speakers.stream()
+                .filter(Objects::nonNull)
+                .map(Speaker::getAvatarURL)
+                .filter(Objects::nonNull)
+                .toList())
+                .thenCompose(contents -> CompletableFuture.allOf(contents.values().stream()
+                        .map(content -> ImagePreparationService.INSTANCE.prepare(CompletableFuture.completedFuture(content)))
+                        .toArray(CompletableFuture[]::new))
+                        .thenApply(prepared -> contents));
+    }
+
     private Image getDefaultClasspathImage() {
         return new Image(Thread.currentThread().getContextClassLoader().getResourceAsStream(config.noImageResource()));
     }
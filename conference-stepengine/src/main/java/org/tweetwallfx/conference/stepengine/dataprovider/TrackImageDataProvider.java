@@ -26,6 +26,7 @@ package org.tweetwallfx.conference.stepengine.dataprovider;
 import java.util.Objects;
 import javafx.scene.image.Image;
 
+import org.tweetwallfx.cache.DecodedImageCache;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 
@@ -38,8 +39,8 @@ public class TrackImageDataProvider implements DataProvider {
     }
 
     public Image getImage(final String url) {
-        return new Image(
-                TrackImageCache.INSTANCE.getCachedOrLoad(url).getInputStream(),
+        return DecodedImageCache.INSTANCE.get(
+                TrackImageCache.INSTANCE.getCachedOrLoad(url),
                 config.profileWidth(),
                 config.profileHeight(),
                 config.preserveRation(),
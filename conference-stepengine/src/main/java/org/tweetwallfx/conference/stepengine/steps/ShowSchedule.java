@@ -29,7 +29,11 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,12 +77,36 @@ public class ShowSchedule implements Step {
             .map(ZoneId::of)
             .orElseGet(ZoneId::systemDefault);
     private static final DateTimeFormatter HOUR_MINUTES = DateTimeFormatter.ofPattern("HH:mm");
+    private static final long SPEAKER_IMAGE_PREFETCH_TIMEOUT_SECONDS = 10;
     private final Config config;
 
     private ShowSchedule(Config config) {
         this.config = config;
     }
 
+    @Override
+    public void prepareStep(final MachineContext context) {
+        if (config.showAvatar) {
+            final List<Speaker> speakers = context.getDataProvider(ScheduleDataProvider.class)
+                    .getFilteredSessionData()
+                    .stream()
+                    .flatMap(sessionData -> sessionData.speakerObjects.stream())
+                    .toList();
+
+            try {
+                // await exactly the images required so doStep does not have to load them on the FX thread
+                context.getDataProvider(SpeakerImageProvider.class)
+                        .prefetchSpeakerImages(speakers)
+                        .get(SPEAKER_IMAGE_PREFETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (final InterruptedException ie) {
+                LOGGER.warn("Prefetching speaker images interrupted", ie);
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException | TimeoutException e) {
+                LOGGER.warn("Prefetching speaker images did not complete", e);
+            }
+        }
+    }
+
     @Override
     public void doStep(final MachineContext context) {
         WordleSkin wordleSkin = (WordleSkin) context.get("WordleSkin");
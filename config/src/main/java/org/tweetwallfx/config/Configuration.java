@@ -81,12 +81,20 @@ public final class Configuration {
                     ConfigurationConverter::getResponsibleKey,
                     Function.identity()));
     private static final Configuration INSTANCE = new Configuration();
-    private final Map<String, Object> configurationData = new HashMap<>();
+    private volatile Map<String, Object> configurationData = Collections.emptyMap();
 
     private Configuration() {
         updateConfigurationData();
     }
 
+    /**
+     * Reloads the configuration data from all of its sources. Configuration
+     * objects retrieved prior to the reload are not affected by it.
+     */
+    public synchronized void reload() {
+        updateConfigurationData();
+    }
+
     private void updateConfigurationData() {
         final Map<String, Object> configData = loadConfigurationData();
 
@@ -95,8 +103,7 @@ public final class Configuration {
                 .stream()
                 .forEach(e -> LOGGER.info("'{}' -> '{}", e.getKey(), e.getValue()));
 
-        configurationData.clear();
-        configurationData.putAll(configData);
+        configurationData = Collections.unmodifiableMap(new HashMap<>(configData));
     }
 
     private static Map<String, Object> loadConfigurationData() {
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2022 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testing if Configuration picks up changed configuration files on reload.
+ */
+class ConfigurationReloadTest {
+
+    // overrides 'src/test/resources/myCustomConfig.json' from the working directory
+    private static final Path OVERRIDE_FILE = Path.of("myCustomConfig.json");
+
+    @AfterEach
+    void removeOverride() throws IOException {
+        Files.deleteIfExists(OVERRIDE_FILE);
+        Configuration.getInstance().reload();
+    }
+
+    @Test
+    void reloadPicksUpChangedConfigurationFile() throws IOException {
+        final Configuration configuration = Configuration.getInstance();
+        assertThat(configuration.getConfigOptional("reloaded")).isEmpty();
+
+        Files.writeString(OVERRIDE_FILE, """
+                {
+                    "reloaded": "yes",
+                    "test": {
+                        "fileName": "overridden"
+                    }
+                }
+                """);
+        // configuration data retrieved prior to the reload is not affected by it
+        final Object testConfig = configuration.getConfig("test");
+        configuration.reload();
+
+        assertThat(configuration.getConfig("reloaded")).isEqualTo("yes");
+        assertThat(configuration.getConfig("test")).isEqualTo(Map.of("fileName", "overridden"));
+        assertThat(testConfig).isEqualTo(Map.of("fileName", "myCustomConfig.json"));
+    }
+
+    @Test
+    void reloadDropsRemovedConfiguration() throws IOException {
+        final Configuration configuration = Configuration.getInstance();
+        Files.writeString(OVERRIDE_FILE, """
+                {
+                    "reloaded": "yes"
+                }
+                """);
+        configuration.reload();
+        assertThat(configuration.getConfig("reloaded")).isEqualTo("yes");
+
+        Files.delete(OVERRIDE_FILE);
+        configuration.reload();
+
+        assertThat(configuration.getConfigOptional("reloaded")).isEmpty();
+        assertThat(configuration.getConfig("test")).isEqualTo(Map.of("fileName", "myCustomConfig.json"));
+    }
+}
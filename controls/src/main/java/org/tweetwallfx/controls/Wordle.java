@@ -60,6 +60,17 @@ public final class Wordle extends Control {
         return new WordleSkin(this);
     }
 
+    /**
+     * Requests the steps of the {@link org.tweetwallfx.stepengine.api.StepEngine}
+     * driving this {@link Wordle} to be reloaded from the configuration (see
+     * {@link org.tweetwallfx.stepengine.api.StepEngine#reloadSteps()}).
+     */
+    public void reloadSteps() {
+        if (getSkin() instanceof WordleSkin wordleSkin) {
+            wordleSkin.reloadSteps();
+        }
+    }
+
     public String getLogo() {
         return logo.get();
     }
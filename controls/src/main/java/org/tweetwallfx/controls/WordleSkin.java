@@ -63,6 +63,7 @@ public final class WordleSkin extends SkinBase<Wordle> {
     private final int tweetFontSize;
     private final Boolean favIconsVisible;
     private final DateFormat df = new SimpleDateFormat("HH:mm:ss");
+    private final StepEngine stepEngine;
 
     public ImageView getSecondLogo() {
         return secondLogo;
@@ -160,7 +161,7 @@ public final class WordleSkin extends SkinBase<Wordle> {
         fontSizeMin = wordle.fontSizeMinProperty().get();
         fontSizeMax = wordle.fontSizeMaxProperty().get();
         tweetFontSize = wordle.tweetFontSizeProperty().get();
-        prepareStepMachine();
+        stepEngine = prepareStepMachine();
     }
 
     private void updateLogo(final String newLogo) {
@@ -237,12 +238,21 @@ public final class WordleSkin extends SkinBase<Wordle> {
         }
     }
 
-    private void prepareStepMachine() {
+    /**
+     * Requests the steps of the {@link StepEngine} to be reloaded from the
+     * configuration (see {@link StepEngine#reloadSteps()}).
+     */
+    void reloadSteps() {
+        stepEngine.reloadSteps();
+    }
+
+    private StepEngine prepareStepMachine() {
         LOG.info("Prepare StepMachine");
 
         final StepEngine s = new StepEngine();
         s.getContext().put("WordleSkin", this);
         LOG.info("Prepare StepMachine done");
         s.go();
+        return s;
     }
 }
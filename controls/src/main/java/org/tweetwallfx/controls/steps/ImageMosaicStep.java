@@ -40,6 +40,7 @@ import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.CacheHint;
 import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
@@ -60,7 +61,10 @@ public class ImageMosaicStep implements Step {
     }
 
     private static final Random RANDOM = new SecureRandom();
+    // key of the ImageView property holding the token of its latest image request
+    private static final Object IMAGE_REQUEST = new Object();
     private final ImageView[][] rects = new ImageView[6][5];
+    private final ImageStore[][] stores = new ImageStore[6][5];
     private final Bounds[][] bounds = new Bounds[6][5];
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
@@ -114,6 +118,8 @@ public class ImageMosaicStep implements Step {
                         for (int i = 0; i < 6; i++) {
                             for (int j = 0; j < 5; j++) {
                                 pane.getChildren().remove(rects[i][j]);
+                                rects[i][j].getProperties().remove(IMAGE_REQUEST);
+                                stores[i][j] = null;
                             }
                         }
                         highlightedIndexes.clear();
@@ -136,13 +142,16 @@ public class ImageMosaicStep implements Step {
             for (int j = 0; j < 5; j++) {
                 int index = RANDOM.nextInt(distillingList.size());
                 ImageStore selectedImage = distillingList.remove(index);
-                ImageView imageView = new ImageView(selectedImage.getImage());
+                ImageView imageView = new ImageView();
+                // decoded at tile size in the background unless it has been decoded before
+                showImage(imageView, selectedImage, width, height);
                 imageView.setCache(true);
                 imageView.setCacheHint(CacheHint.SPEED);
                 imageView.setFitWidth(width);
                 imageView.setFitHeight(height);
                 imageView.setEffect(new GaussianBlur(0));
                 rects[i][j] = imageView;
+                stores[i][j] = selectedImage;
                 bounds[i][j] = new BoundingBox(i * (width + 10) + 5, j * (height + 8) + 4, width, height);
                 rects[i][j].setOpacity(0);
                 rects[i][j].setLayoutX(bounds[i][j].getMinX());
@@ -159,11 +168,24 @@ public class ImageMosaicStep implements Step {
     }
 
     private ImageWallAnimationTransition createHighlightAndZoomTransition() {
-        // select next random not but not previously shown image
+        // select next random not but not previously shown image, preferring
+        // images already shown as their aspect ratio is known
+        final List<Integer> readyIndexes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            if (!highlightedIndexes.contains(i) && null != rects[i % 6][i / 6].getImage()) {
+                readyIndexes.add(i);
+            }
+        }
+
         int index;
-        do {
-            index = RANDOM.nextInt(30);
-        } while (!highlightedIndexes.add(index));
+        if (readyIndexes.isEmpty()) {
+            do {
+                index = RANDOM.nextInt(30);
+            } while (!highlightedIndexes.add(index));
+        } else {
+            index = readyIndexes.get(RANDOM.nextInt(readyIndexes.size()));
+            highlightedIndexes.add(index);
+        }
 
         int column = index % 6;
         int row = index / 6;
@@ -203,8 +225,17 @@ public class ImageMosaicStep implements Step {
         double maxWidth = pane.getWidth() * 0.8;
         double maxHeight = pane.getHeight() * 0.8;
 
-        double realWidth = randomView.getImage().getWidth();
-        double realHeight = randomView.getImage().getHeight();
+        // show the highlighted image in the resolution it is zoomed to
+        showImage(randomView, stores[column][row], maxWidth, maxHeight);
+
+        Image image = randomView.getImage();
+        if (null == image) {
+            // the aspect ratio is unknown until the image is ready, so keep it
+            // within the zoomed bounds instead of stretching the image
+            randomView.setPreserveRatio(true);
+        }
+        double realWidth = null == image ? randomView.getFitWidth() : image.getWidth();
+        double realHeight = null == image ? randomView.getFitHeight() : image.getHeight();
 
         double scaleFactor = Math.min(maxWidth / realWidth, maxHeight / realHeight);
 
@@ -265,12 +296,37 @@ public class ImageMosaicStep implements Step {
         SequentialTransition seqT = new SequentialTransition();
         seqT.getChildren().addAll(secondParallelTransition, firstParallelTransition);
 
-        secondParallelTransition.setOnFinished(event
-                -> randomView.setEffect(null));
+        secondParallelTransition.setOnFinished(event -> {
+            randomView.setEffect(null);
+            randomView.setPreserveRatio(false);
+            // return to the image decoded at tile size
+            showImage(randomView, stores[column][row], width, height);
+        });
 
         return seqT;
     }
 
+    /**
+     * Shows the image of the {@code imageStore} fitting into the given bounds
+     * in the {@code imageView}. In case it is not decoded yet the view keeps
+     * its current image until it is ready. An image getting ready after a
+     * newer image has been requested for the view is discarded.
+     */
+    private static void showImage(final ImageView imageView, final ImageStore imageStore, final double width, final double height) {
+        final Object token = new Object();
+        imageView.getProperties().put(IMAGE_REQUEST, token);
+
+        final Image image = imageStore.getImage(width, height, readyImage -> {
+            if (token == imageView.getProperties().get(IMAGE_REQUEST)) {
+                imageView.setImage(readyImage);
+            }
+        });
+
+        if (null != image) {
+            imageView.setImage(image);
+        }
+    }
+
     private static class ImageWallAnimationTransition {
 
         private final Transition transition;
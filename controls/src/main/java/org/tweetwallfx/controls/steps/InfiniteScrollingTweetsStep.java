@@ -43,7 +43,6 @@ import javafx.geometry.Pos;
 import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -313,8 +312,8 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     }
 
     private Node createProfileImageView(Tweet displayTweet) {
-        Image profileImage = tweetUserProfileImageDataProvider.getImageBig(displayTweet.getUser());
-        ImageView profileImageView = new ImageView(profileImage);
+        ImageView profileImageView = new ImageView();
+        profileImageView.setImage(tweetUserProfileImageDataProvider.getImageBig(displayTweet.getUser(), profileImageView::setImage));
         profileImageView.setSmooth(true);
         profileImageView.setCache(config.speakerImageNode.isCacheEnabled);
         profileImageView.setCacheHint(config.speakerImageNode.cacheHint);
@@ -330,11 +329,18 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
             Arrays.stream(displayTweet.getMediaEntries())
                 .filter(e -> e.getType().equals(MediaTweetEntryType.photo)).findFirst();
         return maybeImageEntry.flatMap(entry -> {
-            var image = photoImageMediaEntryDataProvider.getImage(entry);
-            ImageView iv = new ImageView(image);
+            ImageView iv = new ImageView();
             iv.setPreserveRatio(true);
             iv.setFitWidth(config.tweetWidth + config.profileImageSize + 10);
-            Rectangle rectangle = new Rectangle(0,0,iv.getBoundsInLocal().getWidth(),iv.getBoundsInLocal().getHeight());
+            Rectangle rectangle = new Rectangle();
+            iv.setImage(photoImageMediaEntryDataProvider.getImage(entry, image -> {
+                // the image replaces a placeholder of the same aspect ratio
+                iv.setImage(image);
+                rectangle.setWidth(iv.getBoundsInLocal().getWidth());
+                rectangle.setHeight(iv.getBoundsInLocal().getHeight());
+            }));
+            rectangle.setWidth(iv.getBoundsInLocal().getWidth());
+            rectangle.setHeight(iv.getBoundsInLocal().getHeight());
             rectangle.setArcHeight(20);
             rectangle.setArcWidth(20);
             iv.setClip(rectangle);
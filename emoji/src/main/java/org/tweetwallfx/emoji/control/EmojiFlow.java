@@ -27,6 +27,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.DecodedImageCache;
 import org.tweetwallfx.emoji.EmojiImageCache;
 import org.tweetwallfx.emoji.Emojify;
 import org.tweetwallfx.emoji.Twemoji;
@@ -34,7 +35,6 @@ import org.tweetwallfx.emoji.Twemoji;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
@@ -117,7 +117,7 @@ public final class EmojiFlow extends TextFlow {
         ImageView imageView = new ImageView();
         imageView.setFitWidth(emojiFitWidthProperty.get());
         imageView.setFitHeight(emojiFitHeightProperty.get());
-        imageView.setImage(new Image(EmojiImageCache.INSTANCE.get(emoji.hex()).getInputStream()));
+        imageView.setImage(DecodedImageCache.INSTANCE.get(EmojiImageCache.INSTANCE.get(emoji.hex())));
         return imageView;
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.generic;
 
+import static org.tweetwallfx.mqtt.MqttEvent.RELOAD;
 import static org.tweetwallfx.mqtt.MqttEvent.RESTART;
 import static org.tweetwallfx.mqtt.MqttEvent.STOP;
 
@@ -90,6 +91,11 @@ public class Main extends Application {
 
         final TagTweets tweetsTask = new TagTweets(borderPane);
         Platform.runLater(tweetsTask::start);
+        mqttProcess.addMqttEventHandler(e -> {
+            if (RELOAD.equals(e.getEventType())) {
+                tweetsTask.reloadSteps(); // reload steps without restart
+            }
+        });
 
         scene.setOnKeyTyped((KeyEvent event) -> {
             if (event.isShortcutDown()) {
@@ -98,6 +104,7 @@ public class Main extends Application {
                     case "D" -> toggleStatusLine(borderPane, spa, statusLineHost);
                     case "F" -> primaryStage.setFullScreen(!primaryStage.isFullScreen());
                     case "R" -> exitApplication(42); // restart
+                    case "L" -> tweetsTask.reloadSteps(); // reload steps without restart
                     case "X", "Q" -> exitApplication(0); // normal exit
                     default -> LOG.warn("Unknown character: '{}'", character);
                 };
@@ -43,14 +43,17 @@ import org.tweetwallfx.google.vision.CloudVisionSettings.FeatureType;
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -122,20 +125,21 @@ public final class GoogleVisionCache {
     }
 
     public Map<String, ImageContentAnalysis> getCachedOrLoad(final Stream<String> imageUris) throws IOException {
-        final Map<String, ImageContentAnalysis> result = new HashMap<>();
-
-        imageUris.distinct()
-                .forEach(imageUri
-                        -> result.put(
-                        imageUri,
-                        cache.get(imageUri)));
-
-        result.putAll(
-                load(result.entrySet().stream()
-                        .filter(e -> null == e.getValue())
-                        .map(Map.Entry::getKey)));
+        final Set<String> distinctImageUris = imageUris
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        return result;
+        try {
+            return cache.getAll(distinctImageUris, missingImageUris -> {
+                try {
+                    return load(missingImageUris.stream());
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
     }
 
     private Map<String, ImageContentAnalysis> load(final Stream<String> imageUris) throws IOException {
@@ -168,7 +172,6 @@ public final class GoogleVisionCache {
             final ImageContentAnalysis ica = ImageContentAnalysis.of(response);
             LOG.info("Image('{}') was evaluated as {}", uri, ica);
             result.put(uri, ica);
-            cache.put(uri, ica);
         }
 
         if (itRequest.hasNext()) {
@@ -31,6 +31,7 @@ public class MqttEvent extends Event {
     private static final long serialVersionUID = 1L;
     public static final EventType<MqttEvent> ANY = new EventType<>(Event.ANY, "ANY");
     public static final EventType<MqttEvent> RESTART = new EventType<>(Event.ANY, "RESTART");
+    public static final EventType<MqttEvent> RELOAD = new EventType<>(Event.ANY, "RELOAD");
     public static final EventType<MqttEvent> STOP = new EventType<>(Event.ANY, "STOP");
 
     public MqttEvent(Object source, EventType<? extends Event> eventType) {
@@ -165,6 +165,7 @@ public class MqttProcess implements Runnable {
             switch (payload) {
                 case "stop" -> fire(new MqttEvent(this, MqttEvent.STOP));
                 case "restart" -> fire(new MqttEvent(this, MqttEvent.RESTART));
+                case "reload" -> fire(new MqttEvent(this, MqttEvent.RELOAD));
                 case "info" -> sendMessage(TWEETWALL_STATE, State.info(SystemInfo.info()));
                 default -> LOG.warn("Unknown action payload: {}", payload);
             }
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.stepengine.api;
 
+import java.util.List;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.tweet.api.Tweet;
 
@@ -31,6 +32,18 @@ import org.tweetwallfx.tweet.api.Tweet;
  */
 public interface DataProvider {
 
+    /**
+     * Releases the resources held by this {@link DataProvider}. It is called
+     * by the {@link StepEngine} once no {@link Step} requires this
+     * {@link DataProvider} anymore after the steps have been reloaded (see
+     * {@link StepEngine#reloadSteps()}).
+     *
+     * By Default this method does nothing.
+     */
+    default void shutdown() {
+        // by default do nothing
+    }
+
     /**
      * A Factory creating a {@link DataProvider}.
      */
@@ -80,6 +93,38 @@ public interface DataProvider {
          * @param tweet a new tweet
          */
         void processNewTweet(final Tweet tweet);
+
+        /**
+         * Callback to process a batch of new tweets. It is called instead of
+         * {@link #processNewTweet(org.tweetwallfx.tweet.api.Tweet)} in case
+         * the {@link DataProvider} is configured for
+         * {@link StepEngineSettings.TweetDelivery#BATCH} delivery.
+         *
+         * By Default this method processes each tweet individually.
+         *
+         * @param tweets the new tweets in the order they have been received
+         */
+        default void processNewTweets(final List<Tweet> tweets) {
+            tweets.forEach(this::processNewTweet);
+        }
+    }
+
+    /**
+     * Interface for a {@link DataProvider} publishing the version of its
+     * content. It enables the {@link StepEngine} to skip {@link Step Steps}
+     * whose data has not changed since they were last processed (see
+     * {@link StepEngineSettings.StepDefinition#getSkipWhenStale()}).
+     */
+    interface Versioned extends DataProvider {
+
+        /**
+         * Returns the version of the content of this {@link DataProvider}. The
+         * returned value is to be increased whenever new content becomes
+         * available.
+         *
+         * @return the version of the content
+         */
+        long getContentVersion();
     }
 
     /**
@@ -105,6 +150,8 @@ public interface DataProvider {
 
         /**
          * {@return a boolean flag indicating that initialization has been performed}.
+         * The initialization state is checked after every execution of
+         * {@link #run()} until it is reported as initialized.
          */
         default boolean isInitialized() {
             return false;
@@ -112,7 +159,11 @@ public interface DataProvider {
 
         /**
          * {@return the number of milli seconds to wait before checking the initialization state again}.
+         *
+         * @deprecated the initialization state is no longer polled but
+         * checked after every execution of {@link #run()}
          */
+        @Deprecated
         default long initializationCheckIntervallMS() {
             return 50L;
         }
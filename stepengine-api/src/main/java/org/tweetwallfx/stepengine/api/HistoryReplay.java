@@ -0,0 +1,251 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Replays the history of tweets into {@link DataProvider.HistoryAware}
+ * instances.
+ *
+ * <p>
+ * The history is fetched on a thread of its own and handed over in chunks of
+ * {@code chunkSize} tweets to every {@link DataProvider.HistoryAware}. Every
+ * {@link DataProvider.HistoryAware} processes the tweets in order on a thread
+ * dedicated to it while up to {@code prefetchChunks} further chunks are
+ * fetched ahead. This way fetching the history and processing it overlap and
+ * a slow {@link DataProvider.HistoryAware} delays neither the others nor the
+ * fetching beyond the prefetched chunks.
+ */
+public final class HistoryReplay {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HistoryReplay.class);
+    private final Supplier<Stream<Tweet>> history;
+    private final int chunkSize;
+    private final Map<DataProvider.HistoryAware, Channel> channels = new LinkedHashMap<>();
+    private final AtomicLong fetchedTweets = new AtomicLong();
+    private final CompletableFuture<Void> fetching = new CompletableFuture<>();
+
+    HistoryReplay(
+            final Supplier<Stream<Tweet>> history,
+            final List<DataProvider.HistoryAware> historyAwareProviders,
+            final int chunkSize,
+            final int prefetchChunks) {
+        this.history = Objects.requireNonNull(history, "history must not be null");
+        this.chunkSize = chunkSize;
+        historyAwareProviders.forEach(hap -> channels.put(hap, new Channel(hap, prefetchChunks)));
+    }
+
+    /**
+     * Progress of a {@link HistoryReplay}.
+     *
+     * <p>
+     * Param {@code fetchedTweets} the number of tweets fetched so far
+     *
+     * <p>
+     * Param {@code fetchCompleted} flag indicating that the complete history
+     * has been fetched
+     *
+     * <p>
+     * Param {@code processedTweets} the number of tweets processed so far keyed
+     * by the simple class name of the {@link DataProvider.HistoryAware}
+     *
+     * <p>
+     * Param {@code completed} flag indicating that all
+     * {@link DataProvider.HistoryAware} instances have processed the complete
+     * history
+     */
+    public record Progress(
+            long fetchedTweets,
+            boolean fetchCompleted,
+            Map<String, Long> processedTweets,
+            boolean completed) {
+
+        public Progress {
+            processedTweets = Map.copyOf(processedTweets);
+        }
+    }
+
+    /**
+     * Starts fetching and processing the history using threads of the given
+     * {@code executor}. The {@code executor} has to provide a thread for the
+     * fetching and for every {@link DataProvider.HistoryAware} at the same
+     * time.
+     *
+     * @param executor the {@link Executor} providing the threads
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    void start(final Executor executor) {
+        channels.values().forEach(channel -> CompletableFuture.runAsync(channel::process, executor)
+                .whenComplete((v, t) -> channel.completion.complete(null)));
+        CompletableFuture.runAsync(this::fetch, executor)
+                .whenComplete((v, t) -> fetching.complete(null));
+    }
+
+    /**
+     * Retrieves the future being completed once {@code historyAware} has
+     * processed the complete history.
+     *
+     * @param historyAware the {@link DataProvider.HistoryAware} in question
+     *
+     * @return the future being completed once the history has been processed
+     */
+    CompletableFuture<Void> completion(final DataProvider.HistoryAware historyAware) {
+        return Objects.requireNonNull(channels.get(historyAware), "historyAware is not part of this replay").completion;
+    }
+
+    /**
+     * {@return the current progress of this replay}
+     */
+    public Progress getProgress() {
+        final Map<String, Long> processedTweets = new TreeMap<>();
+        channels.forEach((hap, channel) -> processedTweets.put(hap.getClass().getSimpleName(), channel.processedTweets.get()));
+
+        return new Progress(
+                fetchedTweets.get(),
+                fetching.isDone(),
+                processedTweets,
+                fetching.isDone() && channels.values().stream().allMatch(channel -> channel.completion.isDone()));
+    }
+
+    private void fetch() {
+        final long startMillis = System.currentTimeMillis();
+        final List<Tweet> chunk = new ArrayList<>(chunkSize);
+
+        try (Stream<Tweet> tweets = history.get()) {
+            // once interrupted the channels are abandoned so fetching further tweets is pointless
+            tweets.takeWhile(tweet -> !Thread.currentThread().isInterrupted()).forEach(tweet -> {
+                chunk.add(tweet);
+
+                if (chunk.size() == chunkSize) {
+                    publish(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            });
+
+            if (!chunk.isEmpty()) {
+                publish(List.copyOf(chunk));
+            }
+        } catch (final RuntimeException re) {
+            LOG.error("Fetching the history failed after {} tweets", fetchedTweets.get(), re);
+        } finally {
+            LOG.info("Fetched {} history tweets in {} ms", fetchedTweets.get(), System.currentTimeMillis() - startMillis);
+            // an empty chunk marks the end of the history
+            publish(List.of());
+        }
+    }
+
+    private void publish(final List<Tweet> chunk) {
+        fetchedTweets.addAndGet(chunk.size());
+        channels.values().forEach(channel -> channel.offer(chunk));
+    }
+
+    private static final class Channel {
+
+        private final DataProvider.HistoryAware historyAware;
+        private final BlockingQueue<List<Tweet>> chunks;
+        private final AtomicLong processedTweets = new AtomicLong();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private Channel(final DataProvider.HistoryAware historyAware, final int prefetchChunks) {
+            this.historyAware = historyAware;
+            this.chunks = new ArrayBlockingQueue<>(prefetchChunks);
+        }
+
+        private void offer(final List<Tweet> chunk) {
+            try {
+                // a channel no longer processing must not block the fetching
+                while (!completion.isDone() && !chunks.offer(chunk, 1, TimeUnit.SECONDS)) {
+                    LOG.debug("Awaiting {} to process the prefetched history", historyAware);
+                }
+            } catch (final InterruptedException ie) {
+                LOG.error("Handing over history to {} interrupted", historyAware, ie);
+                // the end of the history can no longer be handed over so the processing has to be abandoned
+                completion.completeExceptionally(ie);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void process() {
+            final long startMillis = System.currentTimeMillis();
+
+            try {
+                for (List<Tweet> chunk = nextChunk(); !chunk.isEmpty(); chunk = nextChunk()) {
+                    chunk.forEach(this::process);
+                }
+            } catch (final InterruptedException ie) {
+                LOG.error("Processing history by {} interrupted", historyAware, ie);
+                Thread.currentThread().interrupt();
+            } finally {
+                LOG.info("{} processed {} history tweets in {} ms", historyAware, processedTweets.get(), System.currentTimeMillis() - startMillis);
+            }
+        }
+
+        /**
+         * Takes the next chunk of the history. In case the handing over of the
+         * history has been abandoned an empty chunk is returned.
+         *
+         * @return the next chunk
+         *
+         * @throws InterruptedException in case the waiting is interrupted
+         */
+        private List<Tweet> nextChunk() throws InterruptedException {
+            while (!completion.isDone()) {
+                final List<Tweet> chunk = chunks.poll(1, TimeUnit.SECONDS);
+
+                if (null != chunk) {
+                    return chunk;
+                }
+            }
+
+            return List.of();
+        }
+
+        private void process(final Tweet tweet) {
+            try {
+                historyAware.processHistoryTweet(tweet);
+            } catch (final RuntimeException re) {
+                LOG.error("{} failed to process history tweet {}", historyAware, tweet.getId(), re);
+            }
+
+            processedTweets.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Dispatches new tweets to the registered {@link DataProvider.NewTweetAware}
+ * instances.
+ *
+ * <p>
+ * Every {@link DataProvider.NewTweetAware} has a bounded ring buffer of its own
+ * that is drained by a thread dedicated to it. Dispatching a tweet only puts
+ * it into the buffers so that the thread of the tweet stream is never blocked
+ * by a slow {@link DataProvider.NewTweetAware}. A full buffer is handled
+ * according to the configured
+ * {@link StepEngineSettings.TweetOverflowPolicy}.
+ */
+public final class NewTweetDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NewTweetDispatcher.class);
+    private final Map<DataProvider.NewTweetAware, Channel> channels = new ConcurrentHashMap<>();
+    private final ThreadFactory threadFactory;
+
+    NewTweetDispatcher(final ThreadFactory threadFactory) {
+        this.threadFactory = Objects.requireNonNull(threadFactory, "threadFactory must not be null");
+    }
+
+    /**
+     * Statistics of the delivery of new tweets to a
+     * {@link DataProvider.NewTweetAware}.
+     *
+     * <p>
+     * Param {@code received} the number of tweets dispatched to the
+     * {@link DataProvider.NewTweetAware}
+     *
+     * <p>
+     * Param {@code delivered} the number of tweets delivered to the
+     * {@link DataProvider.NewTweetAware}
+     *
+     * <p>
+     * Param {@code dropped} the number of tweets dropped due to the buffer
+     * being full
+     *
+     * <p>
+     * Param {@code coalesced} the number of tweets replacing an already
+     * buffered tweet with the same id
+     *
+     * <p>
+     * Param {@code failed} the number of deliveries that failed with an
+     * exception
+     *
+     * <p>
+     * Param {@code buffered} the number of tweets currently awaiting delivery
+     */
+    public record Statistics(
+            long received,
+            long delivered,
+            long dropped,
+            long coalesced,
+            long failed,
+            int buffered) {
+    }
+
+    /**
+     * Registers the {@code newTweetAware} to receive new tweets and starts the
+     * thread delivering them.
+     *
+     * @param newTweetAware the {@link DataProvider.NewTweetAware} to register
+     *
+     * @param tweetDispatchSetting the settings for the delivery
+     */
+    void register(final DataProvider.NewTweetAware newTweetAware, final StepEngineSettings.TweetDispatchSetting tweetDispatchSetting) {
+        final Channel channel = new Channel(newTweetAware, tweetDispatchSetting);
+
+        if (null == channels.putIfAbsent(newTweetAware, channel)) {
+            LOG.info("Dispatching new tweets to {} using {}", newTweetAware, tweetDispatchSetting);
+            final Thread thread = threadFactory.newThread(channel);
+            channel.thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Unregisters the {@code newTweetAware} and stops the thread delivering
+     * new tweets to it. Tweets still buffered are discarded.
+     *
+     * @param newTweetAware the {@link DataProvider.NewTweetAware} to
+     * unregister
+     */
+    void unregister(final DataProvider.NewTweetAware newTweetAware) {
+        final Channel channel = channels.remove(newTweetAware);
+
+        if (null != channel) {
+            LOG.info("No longer dispatching new tweets to {}", newTweetAware);
+            channel.stop();
+        }
+    }
+
+    /**
+     * Checks whether any {@link DataProvider.NewTweetAware} is registered.
+     *
+     * @return {@code true} if no {@link DataProvider.NewTweetAware} is
+     * registered
+     */
+    boolean isEmpty() {
+        return channels.isEmpty();
+    }
+
+    /**
+     * Dispatches the new {@code tweet} to all registered
+     * {@link DataProvider.NewTweetAware} instances without awaiting its
+     * delivery.
+     *
+     * @param tweet the new tweet
+     */
+    void dispatch(final Tweet tweet) {
+        channels.values().forEach(channel -> channel.offer(tweet));
+    }
+
+    /**
+     * {@return the delivery statistics keyed by the simple class name of the
+     * registered {@link DataProvider.NewTweetAware} instances}
+     */
+    public Map<String, Statistics> getStatistics() {
+        final Map<String, Statistics> statistics = new TreeMap<>();
+        channels.forEach((newTweetAware, channel) -> statistics.put(newTweetAware.getClass().getSimpleName(), channel.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    private static final class Channel implements Runnable {
+
+        private final DataProvider.NewTweetAware newTweetAware;
+        private final StepEngineSettings.TweetDispatchSetting setting;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Tweet[] buffer;
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private int head = 0;
+        private int size = 0;
+        private volatile boolean stopped = false;
+        private volatile Thread thread;
+
+        private Channel(final DataProvider.NewTweetAware newTweetAware, final StepEngineSettings.TweetDispatchSetting setting) {
+            this.newTweetAware = Objects.requireNonNull(newTweetAware, "newTweetAware must not be null");
+            this.setting = Objects.requireNonNull(setting, "setting must not be null");
+            this.buffer = new Tweet[setting.bufferSize()];
+        }
+
+        private void offer(final Tweet tweet) {
+            received.incrementAndGet();
+            lock.lock();
+
+            try {
+                if (StepEngineSettings.TweetOverflowPolicy.COALESCE == setting.overflowPolicy()) {
+                    for (int i = 0; i < size; i++) {
+                        final int index = (head + i) % buffer.length;
+
+                        if (buffer[index].getId() == tweet.getId()) {
+                            buffer[index] = tweet;
+                            coalesced.incrementAndGet();
+                            return;
+                        }
+                    }
+                }
+
+                if (size == buffer.length) {
+                    dropped.incrementAndGet();
+
+                    if (StepEngineSettings.TweetOverflowPolicy.DROP_NEWEST == setting.overflowPolicy()) {
+                        LOG.debug("Buffer of {} is full, dropping new tweet {}", newTweetAware, tweet.getId());
+                        return;
+                    }
+
+                    LOG.debug("Buffer of {} is full, dropping oldest tweet {}", newTweetAware, buffer[head].getId());
+                    removeFirst();
+                }
+
+                buffer[(head + size) % buffer.length] = tweet;
+                size++;
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Tweet removeFirst() {
+            final Tweet tweet = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            return tweet;
+        }
+
+        private List<Tweet> take(final int maxCount) throws InterruptedException {
+            lock.lockInterruptibly();
+
+            try {
+                while (0 == size) {
+                    notEmpty.await();
+                }
+
+                final List<Tweet> tweets = new ArrayList<>(Math.min(size, maxCount));
+
+                while (size > 0 && tweets.size() < maxCount) {
+                    tweets.add(removeFirst());
+                }
+
+                return tweets;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            final boolean batched = StepEngineSettings.TweetDelivery.BATCH == setting.delivery();
+
+            while (!stopped) {
+                final List<Tweet> tweets;
+
+                try {
+                    tweets = take(batched ? setting.batchSize() : 1);
+                } catch (final InterruptedException ie) {
+                    if (!stopped) {
+                        LOG.error("Delivery of new tweets to {} interrupted", newTweetAware, ie);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                try {
+                    if (batched) {
+                        newTweetAware.processNewTweets(tweets);
+                    } else {
+                        newTweetAware.processNewTweet(tweets.get(0));
+                    }
+                    delivered.addAndGet(tweets.size());
+                } catch (final RuntimeException re) {
+                    failed.incrementAndGet();
+                    LOG.error("Delivery of new tweets to {} failed", newTweetAware, re);
+                }
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+
+            final Thread t = thread;
+
+            if (null != t) {
+                t.interrupt();
+            }
+        }
+
+        private Statistics getStatistics() {
+            final int buffered;
+            lock.lock();
+
+            try {
+                buffered = size;
+            } finally {
+                lock.unlock();
+            }
+
+            return new Statistics(
+                    received.get(),
+                    delivered.get(),
+                    dropped.get(),
+                    coalesced.get(),
+                    failed.get(),
+                    buffered);
+        }
+    }
+}
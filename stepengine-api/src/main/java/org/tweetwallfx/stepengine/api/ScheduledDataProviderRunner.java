@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a {@link DataProvider.Scheduled} according to its
+ * {@link DataProvider.ScheduledConfig}.
+ *
+ * <p>
+ * The timing is done by the {@code scheduleExecutor} while the actual
+ * execution is handed over to the {@code runExecutor}. A
+ * {@link DataProvider.Scheduled} is never run concurrently to itself. A
+ * scheduled execution coming due while the previous one is still running is
+ * skipped and counted as overrun so that a blocking
+ * {@link DataProvider.Scheduled} cannot pile up executions and thereby starve
+ * the others.
+ */
+final class ScheduledDataProviderRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduledDataProviderRunner.class);
+    private final DataProvider.Scheduled scheduled;
+    private final DataProvider.ScheduledConfig scheduledConfig;
+    private final ScheduledExecutorService scheduleExecutor;
+    private final Executor runExecutor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong overruns = new AtomicLong();
+    private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+    private volatile ScheduledFuture<?> scheduledTrigger;
+    private volatile boolean stopped = false;
+
+    ScheduledDataProviderRunner(
+            final DataProvider.Scheduled scheduled,
+            final ScheduledExecutorService scheduleExecutor,
+            final Executor runExecutor) {
+        this.scheduled = Objects.requireNonNull(scheduled, "scheduled must not be null");
+        this.scheduledConfig = Objects.requireNonNull(scheduled.getScheduleConfig(), "scheduled.getScheduleConfig() must not be null");
+        this.scheduleExecutor = Objects.requireNonNull(scheduleExecutor, "scheduleExecutor must not be null");
+        this.runExecutor = Objects.requireNonNull(runExecutor, "runExecutor must not be null");
+    }
+
+    /**
+     * Starts the periodic execution.
+     */
+    void start() {
+        if (DataProvider.ScheduleType.FIXED_DELAY == scheduledConfig.scheduleType()) {
+            // the next execution is scheduled once the previous one has finished
+            scheduledTrigger = scheduleExecutor.schedule(this::trigger, scheduledConfig.initialDelay(), TimeUnit.SECONDS);
+        } else {
+            scheduledTrigger = scheduleExecutor.scheduleAtFixedRate(this::trigger, scheduledConfig.initialDelay(), scheduledConfig.scheduleDuration(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stops the periodic execution. An execution already running is not
+     * interrupted.
+     */
+    void stop() {
+        stopped = true;
+
+        final ScheduledFuture<?> trigger = scheduledTrigger;
+
+        if (null != trigger) {
+            trigger.cancel(false);
+        }
+    }
+
+    /**
+     * {@return the future being completed once the
+     * {@link DataProvider.Scheduled} reports to be initialized after one of
+     * its executions}
+     */
+    CompletableFuture<Void> initialization() {
+        return initialization;
+    }
+
+    /**
+     * {@return the number of executions that have been skipped or exceeded
+     * their schedule duration due to a previous execution still running}
+     */
+    long getOverruns() {
+        return overruns.get();
+    }
+
+    private void trigger() {
+        if (stopped) {
+            return;
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            LOG.warn("Skipping execution of {} as the previous one is still running (overruns: {})", scheduled, overruns.incrementAndGet());
+            return;
+        }
+
+        try {
+            runExecutor.execute(this::run);
+        } catch (final RejectedExecutionException ree) {
+            running.set(false);
+            LOG.error("Failed to start execution of {}", scheduled, ree);
+        }
+    }
+
+    /**
+     * Runs the {@link DataProvider.Scheduled} logging any exception produced
+     * by it.
+     *
+     * When using {@link java.util.concurrent.ExecutorService} instances
+     * produced by {@link java.util.concurrent.Executors} no stacktrace will be
+     * produced. It could normally be handled in
+     * {@link java.util.concurrent.ThreadPoolExecutor#afterExecute(java.lang.Runnable, java.lang.Throwable)}
+     * but the default implementation is a no-op so none will be printed.
+     */
+    private void run() {
+        final long startNanos = System.nanoTime();
+
+        try {
+            scheduled.run();
+        } catch (final Exception e) {
+            LOG.error("#### Scheduled {} failed with: ", scheduled, e);
+        } finally {
+            final Duration runDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+            running.set(false);
+
+            if (!initialization.isDone() && scheduled.isInitialized()) {
+                initialization.complete(null);
+            }
+
+            if (runDuration.compareTo(Duration.ofSeconds(scheduledConfig.scheduleDuration())) > 0) {
+                LOG.warn("Execution of {} took {} exceeding its schedule duration of {}s (overruns: {})",
+                        scheduled, runDuration, scheduledConfig.scheduleDuration(), overruns.incrementAndGet());
+            } else {
+                LOG.debug("Execution of {} took {}", scheduled, runDuration);
+            }
+
+            if (DataProvider.ScheduleType.FIXED_DELAY == scheduledConfig.scheduleType() && !stopped) {
+                scheduledTrigger = scheduleExecutor.schedule(this::trigger, scheduledConfig.scheduleDuration(), TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -48,6 +48,14 @@ public interface Step {
      * {@link StepEngine}. This method called only after instantiation by the
      * {@link StepEngine}.
      *
+     * <p>
+     * It is called once the {@link DataProvider DataProviders} required by
+     * this {@link Step} are ready. In case they are not ready at the time the
+     * {@link StepEngine} is created (see
+     * {@link StepEngineSettings#parallelStartup()}) the call is deferred until
+     * this {@link Step} is first considered for processing and is then
+     * performed on the thread of the {@link StepEngine}.
+     *
      * @param context the MachineContext
      */
     default void initStep(final MachineContext context) {
@@ -58,6 +66,10 @@ public interface Step {
      * Determines if this {@link Step} should be skipped in order to not be
      * processed in the current iteration of the {@link StepEngine}.
      *
+     * In case the {@link StepEngine} is configured to run pipelined (see
+     * {@link StepEngineSettings#pipelined()}) this decision is made while the
+     * previous {@link Step} is still being processed.
+     *
      * By Default this method returns {@code false}.
      *
      * @param context the MachineContext
@@ -69,6 +81,28 @@ public interface Step {
         return false;
     }
 
+    /**
+     * Prepares this {@link Step} ahead of its execution. Called before every
+     * execution of this {@link Step}.
+     *
+     * <p>
+     * The call is performed on a dedicated (non FX Platform) thread. In case
+     * the {@link StepEngine} is configured to run pipelined (see
+     * {@link StepEngineSettings#pipelined()}) it happens while the previous
+     * {@link Step} is still being processed, otherwise right before the
+     * execution. It is intended for work like data fetching, layout
+     * computation or image decoding. This method is only called for a
+     * {@link Step} that has already been decided not to be skipped (see
+     * {@link #shouldSkip(MachineContext)}).
+     *
+     * By Default this method does nothing.
+     *
+     * @param context the MachineContext
+     */
+    default void prepareStep(final MachineContext context) {
+        // by default do nothing
+    }
+
     /**
      * Performs this {@link Step}s action.
      *
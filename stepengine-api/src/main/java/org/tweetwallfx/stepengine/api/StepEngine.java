@@ -25,27 +25,39 @@ package org.tweetwallfx.stepengine.api;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
@@ -61,15 +73,60 @@ public final class StepEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger("org.tweetwallfx.startup");
     private static final Logger LOG = LoggerFactory.getLogger(StepEngine.class);
     private static final ThreadGroup THREAD_GROUP = new ThreadGroup("StepEngine");
+    private static final int UNARMED = -1;
     private volatile boolean terminated = false;
     private final Phaser asyncProceed = new Phaser(2);
-    private final StepIterator stepIterator;
+    /**
+     * The phase of {@link #asyncProceed} in which the currently processed
+     * {@link Step} may proceed or {@link #UNARMED} in case it already has.
+     */
+    private final AtomicInteger armedPhase = new AtomicInteger(UNARMED);
+    private final Map<Step, Integer> consecutiveTimeouts = new HashMap<>();
+    private final AtomicBoolean reloadRequested = new AtomicBoolean(false);
+    private final Supplier<StepEngineSettings> stepEngineSettingsSupplier;
+    private StepIterator stepIterator;
+    private final boolean pipelined;
+    private final long prepareTimeoutMillis;
+    private final long proceedSlackMillis;
+    private final int quarantineThreshold;
+    private final int maxStaleSkips;
+    private final long readinessTimeoutMillis;
+    /**
+     * The point in time until which the {@link DataProvider DataProviders}
+     * created last are awaited to become ready.
+     */
+    private volatile long readinessDeadlineMillis;
+    /**
+     * The {@link Step Steps} whose initialization is deferred until the
+     * {@link DataProvider DataProviders} they require are ready.
+     */
+    private final Set<Step> uninitializedSteps = new HashSet<>();
+    private final Executor scheduledRunExecutor;
+    private final StepTelemetry telemetry;
+    private final Map<Class<? extends DataProvider>, CompletableFuture<Void>> dataProviderReadiness = new ConcurrentHashMap<>();
+    private final Map<DataProvider.Scheduled, ScheduledDataProviderRunner> scheduledRunners = new ConcurrentHashMap<>();
+    private final NewTweetDispatcher newTweetDispatcher = new NewTweetDispatcher(
+            Thread.ofPlatform()
+                    .name("tweet-dispatch-", 0).group(THREAD_GROUP)
+                    .daemon(true)
+                    .factory());
+    private TweetStream tweetStream;
+    private volatile HistoryReplay historyReplay;
     private final MachineContext context = new MachineContext();
     private final ExecutorService engineExecutor = Executors.newSingleThreadExecutor(
             Thread.ofPlatform()
                     .name("engine").group(THREAD_GROUP)
                     .daemon(true)
                     .factory());
+    private final ExecutorService prepareExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform()
+                    .name("prepare").group(THREAD_GROUP)
+                    .daemon(true)
+                    .factory());
+    private final ExecutorService startupExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual()
+                    .name("startup-", 0)
+                    .factory());
     private final ScheduledExecutorService scheduleExecutor = Executors.newSingleThreadScheduledExecutor(
             Thread.ofPlatform()
                     .name("schedule").group(THREAD_GROUP)
@@ -77,11 +134,36 @@ public final class StepEngine {
                     .factory());
 
     public StepEngine() {
+        this(() -> Configuration.getInstance().getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class));
+    }
+
+    /**
+     * Creates a {@link StepEngine} retrieving its settings from
+     * {@code stepEngineSettingsSupplier}. The settings are retrieved again
+     * whenever the {@link Step Steps} are reloaded (see
+     * {@link #reloadSteps()}).
+     *
+     * @param stepEngineSettingsSupplier the supplier of the settings
+     */
+    StepEngine(final Supplier<StepEngineSettings> stepEngineSettingsSupplier) {
+        this.stepEngineSettingsSupplier = Objects.requireNonNull(stepEngineSettingsSupplier, "stepEngineSettingsSupplier must not be null");
+        final StepEngineSettings stepEngineSettings = stepEngineSettingsSupplier.get();
         LOGGER.info("create StepIterator");
-        stepIterator = StepIterator.create();
-        initDataProviders();
-        //initialize every step with context
-        stepIterator.applyWith(step -> step.initStep(context));
+        stepIterator = StepIterator.create(stepEngineSettings);
+        pipelined = stepEngineSettings.pipelined();
+        prepareTimeoutMillis = TimeUnit.SECONDS.toMillis(stepEngineSettings.prepareTimeout());
+        proceedSlackMillis = TimeUnit.SECONDS.toMillis(stepEngineSettings.proceedSlack());
+        quarantineThreshold = stepEngineSettings.quarantineThreshold();
+        maxStaleSkips = stepEngineSettings.maxStaleSkips();
+        readinessTimeoutMillis = TimeUnit.SECONDS.toMillis(stepEngineSettings.readinessTimeout());
+        telemetry = new StepTelemetry(stepEngineSettings.telemetryWindowSize());
+        scheduledRunExecutor = createScheduledRunExecutor(stepEngineSettings);
+        initDataProviders(stepEngineSettings, stepIterator.getRequiredDataProviders());
+        stepIterator.applyWith(this::logDataProviderDependencies);
+        precomputeDataProviderViews();
+        // until the first step is processed all DataProviders are available
+        context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders());
+        initSteps();
     }
 
     @SuppressFBWarnings
@@ -89,16 +171,74 @@ public final class StepEngine {
         return context;
     }
 
-    private void initDataProviders() {
-        final Set<Class<? extends DataProvider>> requiredDataProviders = stepIterator.getRequiredDataProviders();
+    /**
+     * {@return the timing telemetry of the processed {@link Step Steps}}
+     */
+    public StepTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    /**
+     * {@return the dispatcher delivering new tweets to the
+     * {@link DataProvider.NewTweetAware} instances}
+     */
+    public NewTweetDispatcher getNewTweetDispatcher() {
+        return newTweetDispatcher;
+    }
+
+    /**
+     * {@return the progress of the most recent replay of the history into the
+     * {@link DataProvider.HistoryAware} instances or an empty
+     * {@link Optional} in case no replay has been started}
+     */
+    public Optional<HistoryReplay.Progress> getHistoryReplayProgress() {
+        return Optional.ofNullable(historyReplay).map(HistoryReplay::getProgress);
+    }
+
+    /**
+     * {@return the number of executions of each {@link DataProvider.Scheduled}
+     * that have been skipped or exceeded their schedule duration due to a
+     * previous execution still running}
+     */
+    public Map<DataProvider.Scheduled, Long> getScheduledOverruns() {
+        return scheduledRunners.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().getOverruns()));
+    }
+
+    /**
+     * Requests the {@link Step Steps} to be reloaded from the configuration.
+     * The reload is performed at the next step boundary, i.e. after the
+     * currently processed {@link Step} has finished. Only the
+     * {@link DataProvider DataProviders} newly required by the reloaded
+     * {@link Step Steps} are created while the ones no longer required are
+     * shut down. All other settings of the {@link StepEngine} remain
+     * unchanged.
+     *
+     * <p>
+     * In case the reload fails the {@link StepEngine} continues with the
+     * current {@link Step Steps}.
+     */
+    public void reloadSteps() {
+        LOGGER.info("reload of steps requested");
+        reloadRequested.set(true);
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void initDataProviders(
+            final StepEngineSettings stepEngineSettings,
+            final Set<Class<? extends DataProvider>> requiredDataProviders) {
         LOGGER.info("init DataProviders");
 
         final String searchText = Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query();
         LOGGER.info("query: {}", searchText);
 
         LOGGER.info("create DataProviders");
-        final Map<String, StepEngineSettings.DataProviderSetting> dataProviderSettings = Configuration.getInstance()
-                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class)
+        final Executor initExecutor = stepEngineSettings.parallelStartup()
+                ? startupExecutor
+                : Runnable::run;
+        final Map<String, StepEngineSettings.DataProviderSetting> dataProviderSettings = stepEngineSettings
                 .dataProviderSettings()
                 .stream()
                 .collect(Collectors.toMap(
@@ -107,73 +247,111 @@ public final class StepEngine {
                         (dps1, dps2) -> {
                             throw new IllegalArgumentException("At most one DataProviderSetting entry may exist for a DataProvider type (uncompliant DataProvider type: '" + dps1.getDataProviderClassName() + "').");
                         }));
-        final List<DataProvider> providers = StreamSupport.stream(ServiceLoader.load(DataProvider.Factory.class).spliterator(), false)
+        final List<CompletableFuture<DataProvider>> providerCreations = StreamSupport.stream(ServiceLoader.load(DataProvider.Factory.class).spliterator(), false)
                 .filter(factory -> requiredDataProviders.contains(factory.getDataProviderClass()))
-                .map(dpf
-                        -> dpf.create(dataProviderSettings.getOrDefault(
-                        dpf.getDataProviderClass().getName(),
-                        new StepEngineSettings.DataProviderSetting())))
+                .map(dpf -> CompletableFuture.supplyAsync(
+                        () -> dpf.create(dataProviderSettings.getOrDefault(
+                                dpf.getDataProviderClass().getName(),
+                                new StepEngineSettings.DataProviderSetting())),
+                        initExecutor))
+                .toList();
+        final List<DataProvider> providers = providerCreations.stream()
+                .map(CompletableFuture::join)
                 .peek(dataProvider -> LOG.info("created {}", dataProvider))
                 .toList();
 
-        requiredDataProviders.stream()
-                .filter(rdpc -> providers.stream().noneMatch(rdpc::isInstance))
-                .findAny()
-                .ifPresent(rdpc -> {
-                    throw new IllegalStateException("DataProvider '" + rdpc.getCanonicalName() + "' is required but no DataProvider.Factory was found creating it!");
-                });
+        try {
+            requiredDataProviders.stream()
+                    .filter(rdpc -> providers.stream().noneMatch(rdpc::isInstance))
+                    .findAny()
+                    .ifPresent(rdpc -> {
+                        throw new IllegalStateException("DataProvider '" + rdpc.getCanonicalName() + "' is required but no DataProvider.Factory was found creating it!");
+                    });
+
+            final List<DataProvider.HistoryAware> historyAwareProviders = providers.stream()
+                    .filter(DataProvider.HistoryAware.class::isInstance)
+                    .map(DataProvider.HistoryAware.class::cast)
+                    .toList();
+            final Map<DataProvider.Scheduled, CompletableFuture<Void>> scheduledInitializations = providers.stream()
+                    .filter(DataProvider.Scheduled.class::isInstance)
+                    .map(DataProvider.Scheduled.class::cast)
+                    .collect(Collectors.toMap(
+                            Function.identity(),
+                            this::initScheduledDataProvider));
+
+            providers.stream()
+                    .filter(DataProvider.NewTweetAware.class::isInstance)
+                    .map(DataProvider.NewTweetAware.class::cast)
+                    .forEach(ntadp -> newTweetDispatcher.register(
+                            ntadp,
+                            dataProviderSettings.getOrDefault(
+                                    ntadp.getClass().getName(),
+                                    new StepEngineSettings.DataProviderSetting()).getTweetDispatch()));
+
+            if (!newTweetDispatcher.isEmpty() && null == tweetStream) {
+                LOGGER.info("create TweetStream");
+                final TweetFilterQuery query = new TweetFilterQuery()
+                        .track(Pattern.compile(" [oO][rR] ").splitAsStream(searchText).toArray(n -> new String[n]));
+                tweetStream = Tweeter.getInstance().createTweetStream(query);
+                // the stream cannot be unsubscribed from so the dispatcher tracks the registered providers instead
+                tweetStream.onTweet(newTweetDispatcher::dispatch);
+            }
 
-        final List<DataProvider.NewTweetAware> newTweetAwareProviders = providers.stream()
-                .filter(DataProvider.NewTweetAware.class::isInstance)
-                .map(DataProvider.NewTweetAware.class::cast)
-                .toList();
-        final List<DataProvider.HistoryAware> historyAwareProviders = providers.stream()
-                .filter(DataProvider.HistoryAware.class::isInstance)
-                .map(DataProvider.HistoryAware.class::cast)
-                .toList();
-        providers.stream()
-                .filter(DataProvider.Scheduled.class::isInstance)
-                .map(DataProvider.Scheduled.class::cast)
-                .forEach(this::initScheduledDataProvider);
-        // await initialization if necessary
-        providers.stream()
-                .filter(DataProvider.Scheduled.class::isInstance)
-                .map(DataProvider.Scheduled.class::cast)
-                .filter(DataProvider.Scheduled::requiresInitialization)
-                .forEach(this::awaitScheduledDataProviderInitialization);
+            if (!historyAwareProviders.isEmpty()) {
+                LOGGER.info("replay history");
+                historyReplay = new HistoryReplay(
+                        () -> Tweeter.getInstance().searchPaged(new TweetQuery().query(searchText).count(100), 20),
+                        historyAwareProviders,
+                        100,
+                        stepEngineSettings.historyPrefetchPages());
+                // fetching and every HistoryAware require a thread of their own
+                historyReplay.start(startupExecutor);
+            }
 
-        if (!newTweetAwareProviders.isEmpty()) {
-            LOGGER.info("create TweetStream");
-            final TweetFilterQuery query = new TweetFilterQuery()
-                    .track(Pattern.compile(" [oO][rR] ").splitAsStream(searchText).toArray(n -> new String[n]));
-            final TweetStream tweetStream = Tweeter.getInstance().createTweetStream(query);
+            final long startMillis = System.currentTimeMillis();
+            readinessDeadlineMillis = startMillis + readinessTimeoutMillis;
+            providers.forEach(dataProvider -> {
+                final CompletableFuture<Void> readiness = CompletableFuture.allOf(
+                        dataProvider instanceof DataProvider.Scheduled scheduled
+                                ? scheduledInitializations.get(scheduled)
+                                : CompletableFuture.completedFuture(null),
+                        dataProvider instanceof DataProvider.HistoryAware historyAware
+                                ? historyReplay.completion(historyAware)
+                                : CompletableFuture.completedFuture(null));
+                readiness.whenComplete((v, t) -> {
+                    if (null == t) {
+                        LOGGER.info("DataProvider ready after {} ms: {}", System.currentTimeMillis() - startMillis, dataProvider);
+                    } else {
+                        LOGGER.error("DataProvider failed to become ready: {}", dataProvider, t);
+                    }
+                });
+                dataProviderReadiness.put(dataProvider.getClass(), readiness);
+            });
 
-            newTweetAwareProviders.forEach(ntadp -> tweetStream.onTweet(ntadp::processNewTweet));
-        }
+            if (!stepEngineSettings.parallelStartup()) {
+                // await initialization of all DataProviders
+                awaitDataProviderReadiness(requiredDataProviders);
+            }
 
-        if (!historyAwareProviders.isEmpty()) {
-            Tweeter.getInstance()
-                    .searchPaged(new TweetQuery().query(searchText).count(100), 20)
-                    .forEach(tweet -> historyAwareProviders.stream().forEach(hap -> hap.processHistoryTweet(tweet)));
+            LOGGER.info("initDataProviders done");
+            providers.forEach(context::addDataProvider);
+        } catch (final RuntimeException re) {
+            // do not leave started runners or dispatcher registrations of the created DataProviders behind
+            providers.forEach(this::shutdownDataProvider);
+            throw re;
         }
-
-        LOGGER.info("initDataProviders done");
-        providers.forEach(context::addDataProvider);
     }
 
-    @SuppressWarnings("FutureReturnValueIgnored")
-    private void initScheduledDataProvider(final DataProvider.Scheduled scheduled) {
+    private CompletableFuture<Void> initScheduledDataProvider(final DataProvider.Scheduled scheduled) {
         LOGGER.info("initializing Scheduled: {}", scheduled);
-        final DataProvider.ScheduledConfig sc = scheduled.getScheduleConfig();
 
         try {
-            final Runnable r = exceptionLoggingRunnable(scheduled);
-
-            if (DataProvider.ScheduleType.FIXED_DELAY == sc.scheduleType()) {
-                scheduleExecutor.scheduleWithFixedDelay(r, sc.initialDelay(), sc.scheduleDuration(), TimeUnit.SECONDS);
-            } else {
-                scheduleExecutor.scheduleAtFixedRate(r, sc.initialDelay(), sc.scheduleDuration(), TimeUnit.SECONDS);
-            }
+            final ScheduledDataProviderRunner runner = new ScheduledDataProviderRunner(scheduled, scheduleExecutor, scheduledRunExecutor);
+            runner.start();
+            scheduledRunners.put(scheduled, runner);
+            return scheduled.requiresInitialization()
+                    ? runner.initialization()
+                    : CompletableFuture.completedFuture(null);
         } catch (final RuntimeException re) {
             LOGGER.error("failed to initializing Scheduled: {}", scheduled, re);
             throw re;
@@ -181,48 +359,245 @@ public final class StepEngine {
     }
 
     /**
-     * Wrapps the given Runnable in a try-catch block logging any exception
-     * produced by the wrapped {@link Runnable}.
+     * Reloads the {@link Step Steps} from the configuration replacing the
+     * current {@link StepIterator}.
      *
-     * When using {@link java.util.concurrent.ExecutorService} instances
-     * produced by {@link Executors} no stacktrace will be produced. It could
-     * normally be handled in
-     * {@link java.util.concurrent.ThreadPoolExecutor#afterExecute(java.lang.Runnable, java.lang.Throwable)}
-     * but the default implementation is a no-op so none will be printed.
+     * @return {@code true} if the {@link Step Steps} have been reloaded or
+     * {@code false} in case the current ones remain in place
+     */
+    private boolean applyStepReload() {
+        LOGGER.info("reloading steps");
+        final StepIterator reloadedStepIterator;
+        final List<DataProvider> obsoleteDataProviders;
+
+        try {
+            Configuration.getInstance().reload();
+            final StepEngineSettings stepEngineSettings = stepEngineSettingsSupplier.get();
+            reloadedStepIterator = StepIterator.create(stepEngineSettings);
+
+            final Set<Class<? extends DataProvider>> requiredDataProviders = reloadedStepIterator.getRequiredDataProviders();
+            final Set<Class<? extends DataProvider>> existingDataProviders = context.dataProviders.stream()
+                    .map(DataProvider::getClass)
+                    .collect(Collectors.toSet());
+            final Set<Class<? extends DataProvider>> addedDataProviders = requiredDataProviders.stream()
+                    .filter(rdpc -> !existingDataProviders.contains(rdpc))
+                    .collect(Collectors.toSet());
+            obsoleteDataProviders = context.dataProviders.stream()
+                    .filter(dp -> !requiredDataProviders.contains(dp.getClass()))
+                    .toList();
+
+            LOGGER.info("DataProviders to be created: {}", addedDataProviders);
+            LOGGER.info("DataProviders to be shut down: {}", obsoleteDataProviders);
+            initDataProviders(stepEngineSettings, addedDataProviders);
+        } catch (final RuntimeException re) {
+            LOGGER.error("Reloading steps failed, continuing with the current steps", re);
+            return false;
+        }
+
+        stepIterator = reloadedStepIterator;
+        consecutiveTimeouts.clear();
+        obsoleteDataProviders.forEach(this::shutdownDataProvider);
+        stepIterator.applyWith(this::logDataProviderDependencies);
+        precomputeDataProviderViews();
+        context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders());
+        uninitializedSteps.clear();
+        initSteps();
+        LOGGER.info("reloading steps done");
+
+        return true;
+    }
+
+    private void shutdownDataProvider(final DataProvider dataProvider) {
+        LOGGER.info("shutting down {}", dataProvider);
+        context.removeDataProvider(dataProvider);
+        dataProviderReadiness.remove(dataProvider.getClass());
+
+        if (dataProvider instanceof DataProvider.NewTweetAware newTweetAware) {
+            newTweetDispatcher.unregister(newTweetAware);
+        }
+
+        if (dataProvider instanceof DataProvider.Scheduled scheduled) {
+            final ScheduledDataProviderRunner runner = scheduledRunners.remove(scheduled);
+
+            if (null != runner) {
+                runner.stop();
+            }
+        }
+
+        try {
+            dataProvider.shutdown();
+        } catch (final RuntimeException re) {
+            LOGGER.error("failed to shut down {}", dataProvider, re);
+        }
+    }
+
+    private static Executor createScheduledRunExecutor(final StepEngineSettings stepEngineSettings) {
+        LOGGER.info("running Scheduled DataProviders via {}", stepEngineSettings.scheduleExecution());
+        return switch (stepEngineSettings.scheduleExecution()) {
+            case SINGLE_THREAD -> Runnable::run;
+            case VIRTUAL_THREAD -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual()
+                            .name("scheduled-", 0)
+                            .factory());
+            case THREAD_POOL -> Executors.newFixedThreadPool(
+                    stepEngineSettings.scheduleThreads(),
+                    Thread.ofPlatform()
+                            .name("scheduled-", 0).group(THREAD_GROUP)
+                            .daemon(true)
+                            .factory());
+        };
+    }
+
+    /**
+     * Precomputes the views of the {@link DataProvider DataProviders} of every
+     * {@link Step} and in case of running pipelined of every transition from
+     * one {@link Step} to the one following it so that no view has to be
+     * computed while processing the {@link Step Steps}.
+     */
+    private void precomputeDataProviderViews() {
+        stepIterator.applyWith(step -> context.getDataProviderView(stepIterator.getRequiredDataProviders(step)));
+
+        if (pipelined) {
+            stepIterator.applyWithTransitions((currentStep, nextStep)
+                    -> context.getDataProviderView(stepIterator.getRequiredDataProviders(currentStep, nextStep)));
+        }
+    }
+
+    /**
+     * Initializes every {@link Step} with the context. The initialization of
+     * a {@link Step} requiring {@link DataProvider DataProviders} that are not
+     * ready yet is deferred until it is selected for processing (see
+     * {@link #initDeferredStep(Step)}).
+     */
+    private void initSteps() {
+        stepIterator.applyWith(step -> {
+            if (isDataProviderReady(stepIterator.getRequiredDataProviders(step))) {
+                step.initStep(context);
+            } else {
+                LOGGER.info("Deferring initialization of step {} until its DataProviders are ready", step.getClass().getSimpleName());
+                uninitializedSteps.add(step);
+            }
+        });
+    }
+
+    /**
+     * Initializes {@code step} in case its initialization has been deferred.
      *
-     * @param r the {@link Runnable} to wrap
+     * @param step the {@link Step} to initialize
+     */
+    private void initDeferredStep(final Step step) {
+        if (uninitializedSteps.remove(step)) {
+            LOG.info("call {}.initStep()", step.getClass().getSimpleName());
+            step.initStep(context);
+        }
+    }
+
+    /**
+     * Awaits the {@link DataProvider DataProviders} required by {@code step}
+     * to be ready for usage.
      *
-     * @return the wrapped {@link Runnable}
+     * @param step the {@link Step} whose {@link DataProvider DataProviders}
+     * are awaited
      */
-    private static Runnable exceptionLoggingRunnable(final Runnable r) {
-        return () -> {
-            try {
-                r.run();
-            } catch (final Exception e) {
-                LOGGER.error("#### Runnable {} failed with: ", r, e);
+    private void awaitDataProviderReadiness(final Step step) {
+        final Collection<Class<? extends DataProvider>> dataProviderClasses = stepIterator.getRequiredDataProviders(step);
+
+        if (!isDataProviderReady(dataProviderClasses)) {
+            LOG.info("Awaiting DataProviders of step {}", step.getClass().getSimpleName());
+            awaitDataProviderReadiness(dataProviderClasses);
+        }
+    }
+
+    private boolean isDataProviderReady(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
+        for (final Class<? extends DataProvider> dataProviderClass : dataProviderClasses) {
+            if (!isDataProviderReady(dataProviderClass)) {
+                return false;
             }
-        };
+        }
+
+        return true;
     }
 
-    private void awaitScheduledDataProviderInitialization(final DataProvider.Scheduled scheduled) {
-        while (!scheduled.isInitialized()) {
-            try {
-                LOG.info("Awaiting initialization for ({} ms) for {}", scheduled.initializationCheckIntervallMS(), scheduled);
-                Thread.sleep(scheduled.initializationCheckIntervallMS());
-            } catch (InterruptedException ex) {
-                LOG.error("Awaiting initialization for {} interrupted!", scheduled, ex);
-                Thread.currentThread().interrupt();
+    private boolean isDataProviderReady(final Class<? extends DataProvider> dataProviderClass) {
+        final CompletableFuture<Void> readiness = dataProviderReadiness.get(dataProviderClass);
+        return null == readiness || readiness.isDone();
+    }
+
+    private void logDataProviderDependencies(final Step step) {
+        LOGGER.info("Step {} depends on {}",
+                step.getClass().getSimpleName(),
+                stepIterator.getRequiredDataProviders(step).stream()
+                        .map(dpc -> dpc.getSimpleName() + (isDataProviderReady(dpc) ? " (ready)" : " (pending)"))
+                        .toList());
+    }
+
+    /**
+     * Awaits the {@link DataProvider DataProviders} of the given classes to be
+     * ready for usage. The wait lasts at most until
+     * {@link #readinessDeadlineMillis} after which the
+     * {@link DataProvider DataProviders} not being ready are logged.
+     *
+     * @param dataProviderClasses the classes of the
+     * {@link DataProvider DataProviders} to await
+     */
+    private void awaitDataProviderReadiness(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
+        final CompletableFuture<?>[] readiness = dataProviderClasses.stream()
+                .map(dataProviderReadiness::get)
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture<?>[]::new);
+
+        try {
+            CompletableFuture.allOf(readiness).get(
+                    Math.max(0L, readinessDeadlineMillis - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            LOG.error("Awaiting DataProvider readiness interrupted!", ex);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            LOG.error("Awaiting DataProvider readiness failed!", ex);
+        } catch (final TimeoutException ex) {
+            LOG.warn("Continuing without DataProviders being ready: {}",
+                    dataProviderClasses.stream()
+                            .filter(dpc -> !isDataProviderReady(dpc))
+                            .map(Class::getSimpleName)
+                            .toList());
+        }
+    }
+
+    /**
+     * Collects the given {@code type}, all of its super classes and all
+     * interfaces implemented by any of them.
+     *
+     * @param type the type whose hierarchy is to be collected
+     *
+     * @return the types of the hierarchy
+     */
+    private static Set<Class<?>> typeHierarchy(final Class<?> type) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        final Deque<Class<?>> toVisit = new ArrayDeque<>();
+        toVisit.add(type);
+
+        while (!toVisit.isEmpty()) {
+            final Class<?> current = toVisit.removeFirst();
+
+            if (types.add(current)) {
+                if (null != current.getSuperclass()) {
+                    toVisit.add(current.getSuperclass());
+                }
+
+                toVisit.addAll(Arrays.asList(current.getInterfaces()));
             }
         }
 
-        LOG.info("Initialization finished for {}", scheduled);
+        return types;
     }
 
     public final class MachineContext {
 
         private final Map<String, Object> properties = new ConcurrentHashMap<>();
-        private final ObservableList<DataProvider> dataProviders = FXCollections.<DataProvider>observableArrayList();
-        private final FilteredList<DataProvider> filteredDataProviders = dataProviders.filtered(null);
+        private final List<DataProvider> dataProviders = new CopyOnWriteArrayList<>();
+        private final Map<Collection<Class<? extends DataProvider>>, DataProviderView> dataProviderViews = new ConcurrentHashMap<>();
+        private volatile Map<Class<?>, DataProvider> availableDataProviders = Map.of();
 
         public Object get(final String key) {
             return properties.get(key);
@@ -243,98 +618,395 @@ public final class StepEngine {
         }
 
         public void proceed() {
-            LOG.info("Proceed called");
-            asyncProceed.arrive();
+            if (armedPhase.compareAndSet(asyncProceed.getPhase(), UNARMED)) {
+                LOG.info("Proceed called");
+                asyncProceed.arrive();
+            } else {
+                LOG.warn("Proceed called while no step awaits it (possibly called late by a step that missed its deadline)");
+            }
         }
 
         void addDataProvider(final DataProvider dataProvider) {
             dataProviders.add(Objects.requireNonNull(
                     dataProvider,
                     "Parameter dataProvider must not be null!"));
+            // views have to be recomputed in order to contain the added DataProvider
+            dataProviderViews.clear();
+        }
+
+        private void removeDataProvider(final DataProvider dataProvider) {
+            dataProviders.remove(dataProvider);
+            // views have to be recomputed in order to no longer contain the removed DataProvider
+            dataProviderViews.clear();
         }
 
-        @SuppressWarnings("unchecked")
         public <T extends DataProvider> T getDataProvider(final Class<T> klazz) {
-            return filteredDataProviders
-                    .stream()
-                    .filter(klazz::isInstance)
-                    .map(klazz::cast)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("A DataProvider of type '" + klazz.getName() + "' is currently not available."));
+            final DataProvider dataProvider = availableDataProviders.get(klazz);
+
+            if (null == dataProvider) {
+                throw new IllegalStateException("A DataProvider of type '" + klazz.getName() + "' is currently not available.");
+            }
+
+            return klazz.cast(dataProvider);
         }
 
         private void restrictAvailableDataProviders(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
             LOG.info("restricting available DataProviders to {}", dataProviderClasses);
-            filteredDataProviders.setPredicate(d -> dataProviderClasses.contains(d.getClass()));
-            filteredDataProviders.forEach(dp -> LOG.info("DataProvider available after restriction: {}", dp));
+            availableDataProviders = getDataProviderView(dataProviderClasses).dataProviders();
+            LOG.debug("DataProviders available after restriction: {}", availableDataProviders);
+        }
+
+        /**
+         * Retrieves the view of the {@link DataProvider DataProviders} whose
+         * class is contained in {@code dataProviderClasses}. The view maps
+         * every class and interface a contained {@link DataProvider} is an
+         * instance of to that {@link DataProvider}. In case several
+         * {@link DataProvider DataProviders} are instances of the same type
+         * the one added first is mapped.
+         *
+         * @param dataProviderClasses the classes of the
+         * {@link DataProvider DataProviders} to be contained in the view
+         *
+         * @return the immutable view
+         */
+        private DataProviderView getDataProviderView(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
+            final DataProviderView view = dataProviderViews.get(dataProviderClasses);
+            return null == view
+                    ? dataProviderViews.computeIfAbsent(dataProviderClasses, this::createDataProviderView)
+                    : view;
+        }
+
+        private DataProviderView createDataProviderView(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
+            final Map<Class<?>, DataProvider> view = new HashMap<>();
+
+            dataProviders.stream()
+                    .filter(dp -> dataProviderClasses.contains(dp.getClass()))
+                    .forEach(dp -> typeHierarchy(dp.getClass()).forEach(type -> view.putIfAbsent(type, dp)));
+
+            return new DataProviderView(
+                    Map.copyOf(view),
+                    view.values().stream()
+                            .distinct()
+                            .filter(DataProvider.Versioned.class::isInstance)
+                            .map(DataProvider.Versioned.class::cast)
+                            .toList());
         }
     }
 
+    /**
+     * A view of the {@link DataProvider DataProviders} available to a
+     * {@link Step} (see {@link MachineContext#getDataProviderView(Collection)}).
+     *
+     * <p>
+     * Param {@code dataProviders} the {@link DataProvider DataProviders} keyed
+     * by every class and interface they are an instance of
+     *
+     * <p>
+     * Param {@code versionedDataProviders} the distinct
+     * {@link DataProvider.Versioned} instances contained in the view
+     */
+    private record DataProviderView(
+            Map<Class<?>, DataProvider> dataProviders,
+            List<DataProvider.Versioned> versionedDataProviders) {
+    }
+
     public void go() {
         engineExecutor.execute(this::process);
     }
 
+    /**
+     * Stops processing {@link Step Steps} once the currently processed one
+     * has finished.
+     */
+    void terminate() {
+        terminated = true;
+    }
+
     private void process() {
+        Step step = stepIterator.next();
+        // flag indicating that step has already been selected and prepared while processing the previous step
+        boolean selected = false;
+
         while (!terminated) {
+            if (reloadRequested.getAndSet(false) && applyStepReload()) {
+                step = stepIterator.next();
+                selected = false;
+            }
+
             LOG.info("process to next step ");
 
             final long start = System.currentTimeMillis();
 
-            Step step = stepIterator.next();
-            context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
-            while (step.shouldSkip(context)) {
-                LOG.info("Skip step: {}", step.getClass().getSimpleName());
-                step = stepIterator.next();
-                context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
+            if (!selected) {
+                step = selectStep(null, step);
+                // not prepared while processing the previous step so it is prepared right away
+                step = awaitPreparedStep(step, prepareNextStep(step));
             }
+
+            context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
             // found a step not being skipped. so reset the SKIP_TOKEN
             context.put(Step.SKIP_TOKEN, null);
             final Step stepToExecute = step;
             final Duration duration = step.preferredStepDuration(context);
 
             LOG.info("call {}.doStep()", stepToExecute.getClass().getSimpleName());
+            final long deadline = System.currentTimeMillis() + Math.max(0L, duration.toMillis()) + proceedSlackMillis;
+            final int stepPhase = asyncProceed.getPhase();
+            armedPhase.set(stepPhase);
 
             if (stepToExecute.requiresPlatformThread()) {
-                Platform.runLater(() -> {
-                    try {
-                        stepToExecute.doStep(context);
-                    } catch (RuntimeException | Error e) {
-                        LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
-                        // enforce that animation continues
-                        context.proceed();
-                    }
-                });
+                Platform.runLater(() -> doStep(stepToExecute, StepTelemetry.Phase.PLATFORM_THREAD));
             } else {
-                try {
-                    stepToExecute.doStep(context);
-                } catch (RuntimeException | Error e) {
-                    LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
-                    // enforce that animation continues
-                    context.proceed();
-                }
+                doStep(stepToExecute, StepTelemetry.Phase.DO_STEP);
             }
 
+            // in pipelined mode the next step is selected and prepared while the current one is being processed
+            final Step nextStep = pipelined
+                    ? selectStep(stepToExecute, stepIterator.next())
+                    : null;
+            final Future<Step> nextStepPreparation = pipelined
+                    ? prepareNextStep(nextStep)
+                    : null;
             final long stop = System.currentTimeMillis();
             final long doStateDuration = stop - start;
             final long delay = duration.toMillis() - doStateDuration;
             if (delay > 0) {
+                final long sleepStartNanos = System.nanoTime();
                 try {
                     LOG.info("sleep({} ms) for step {}", delay, step.getClass().getSimpleName());
                     Thread.sleep(delay);
                 } catch (InterruptedException ex) {
                     LOG.error("Sleeping for {} interrupted!", delay, ex);
                     Thread.currentThread().interrupt();
+                } finally {
+                    telemetry.record(stepToExecute, StepTelemetry.Phase.SLEEP, System.nanoTime() - sleepStartNanos);
                 }
             }
             LOG.info("waiting (possible) for step to call proceed {}", step.getClass().getSimpleName());
+            final long awaitStartNanos = System.nanoTime();
             try {
                 // wait for proceed being called
-                asyncProceed.awaitAdvanceInterruptibly(asyncProceed.arrive(), 60, TimeUnit.SECONDS);
+                asyncProceed.awaitAdvanceInterruptibly(
+                        asyncProceed.arrive(),
+                        Math.max(0L, deadline - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS);
+                consecutiveTimeouts.remove(stepToExecute);
             } catch (InterruptedException ex) {
                 LOG.error("Await proceed interrupted", ex);
             } catch (TimeoutException ex) {
-                LOG.error("Await proceed timed out", ex);
+                LOG.error("Await proceed timed out for step {}", stepToExecute.getClass().getSimpleName(), ex);
+                telemetry.recordProceedTimeout(stepToExecute);
+                forceProceed(stepToExecute, stepPhase);
+            } finally {
+                telemetry.record(stepToExecute, StepTelemetry.Phase.AWAIT_PROCEED, System.nanoTime() - awaitStartNanos);
+            }
+
+            if (pipelined) {
+                step = awaitPreparedStep(nextStep, nextStepPreparation);
+                selected = true;
+            } else {
+                // advancing only now lets a reload or quarantine apply to the very next step
+                step = stepIterator.next();
+                selected = false;
+            }
+        }
+    }
+
+    /**
+     * Selects the {@link Step} to be processed starting with
+     * {@code candidate}. Every {@link Step} being stale or requesting to be
+     * skipped is passed over in favor of the one following it.
+     *
+     * <p>
+     * In case {@code currentStep} is given the selection is performed while
+     * {@code currentStep} is still being processed. Therefore the
+     * {@link DataProvider DataProviders} required by {@code currentStep}
+     * remain available during the selection.
+     *
+     * @param currentStep the {@link Step} currently being processed or
+     * {@code null} if there is none
+     *
+     * @param candidate the first {@link Step} to consider
+     *
+     * @return the selected {@link Step}
+     */
+    private Step selectStep(final Step currentStep, final Step candidate) {
+        Step step = candidate;
+
+        while (true) {
+            awaitDataProviderReadiness(step);
+            restrictAvailableDataProviders(currentStep, step);
+            initDeferredStep(step);
+
+            if (!isStale(step) && !shouldSkip(step)) {
+                return step;
+            }
+
+            LOG.info("Skip step: {}", step.getClass().getSimpleName());
+            step = stepIterator.next();
+        }
+    }
+
+    /**
+     * Restricts the available {@link DataProvider DataProviders} to the ones
+     * required by {@code currentStep} and {@code nextStep}.
+     *
+     * @param currentStep the {@link Step} currently being processed or
+     * {@code null} if there is none
+     *
+     * @param nextStep the {@link Step} to be processed next
+     */
+    private void restrictAvailableDataProviders(final Step currentStep, final Step nextStep) {
+        context.restrictAvailableDataProviders(null == currentStep
+                ? stepIterator.getRequiredDataProviders(nextStep)
+                : stepIterator.getRequiredDataProviders(currentStep, nextStep));
+    }
+
+    /**
+     * Advances {@link #asyncProceed} on behalf of {@code step} which missed
+     * its deadline to call
+     * {@link MachineContext#proceed()}. In case {@code step} has missed its
+     * deadline {@link #quarantineThreshold} consecutive times it is removed
+     * from the rotation.
+     *
+     * @param step the {@link Step} that missed its deadline
+     *
+     * @param stepPhase the phase of {@link #asyncProceed} in which
+     * {@code step} was to proceed
+     */
+    private void forceProceed(final Step step, final int stepPhase) {
+        if (armedPhase.compareAndSet(stepPhase, UNARMED)) {
+            LOG.warn("Forcibly advancing past step {}", step.getClass().getSimpleName());
+            asyncProceed.arrive();
+        }
+
+        // in case step proceeded concurrently ensure its arrival is registered before continuing
+        asyncProceed.awaitAdvance(stepPhase);
+
+        final int timeouts = consecutiveTimeouts.merge(step, 1, Integer::sum);
+
+        if (quarantineThreshold > 0 && timeouts >= quarantineThreshold) {
+            if (stepIterator.quarantine(step)) {
+                LOG.error("Step {} missed its deadline {} consecutive times and is removed from the rotation", step.getClass().getSimpleName(), timeouts);
+            } else {
+                LOG.error("Step {} missed its deadline {} consecutive times but cannot be removed from the rotation", step.getClass().getSimpleName(), timeouts);
+            }
+        }
+    }
+
+    /**
+     * Checks whether {@code step} is to be skipped since none of its required
+     * {@link DataProvider.Versioned} instances has new content. In that case
+     * the configured stale skip token is registered as
+     * {@link Step#SKIP_TOKEN} so following steps may take it into account.
+     *
+     * @param step the {@link Step} to check
+     *
+     * @return {@code true} if {@code step} is to be skipped
+     */
+    private boolean isStale(final Step step) {
+        if (!stepIterator.isSkippedWhenStale(step)) {
+            return false;
+        }
+
+        final List<DataProvider.Versioned> versionedDataProviders = context.getDataProviderView(stepIterator.getRequiredDataProviders(step))
+                .versionedDataProviders();
+
+        if (versionedDataProviders.isEmpty()) {
+            // without versioned content a step cannot be stale
+            return false;
+        }
+
+        long contentVersion = 0;
+
+        for (final DataProvider.Versioned versionedDataProvider : versionedDataProviders) {
+            contentVersion += versionedDataProvider.getContentVersion();
+        }
+
+        if (stepIterator.isStale(step, contentVersion, maxStaleSkips)) {
+            LOG.info("Step {} is stale (content version {})", step.getClass().getSimpleName(), contentVersion);
+            context.put(Step.SKIP_TOKEN, stepIterator.getStaleSkipToken(step));
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean shouldSkip(final Step step) {
+        final long startNanos = System.nanoTime();
+
+        try {
+            return step.shouldSkip(context);
+        } finally {
+            telemetry.record(step, StepTelemetry.Phase.SHOULD_SKIP, System.nanoTime() - startNanos);
+        }
+    }
+
+    private void doStep(final Step step, final StepTelemetry.Phase phase) {
+        final long startNanos = System.nanoTime();
+
+        try {
+            step.doStep(context);
+        } catch (RuntimeException | Error e) {
+            LOG.error("StepExecution has terminal failure {} ", step.getClass().getSimpleName(), e);
+            // enforce that animation continues
+            context.proceed();
+        } finally {
+            telemetry.record(step, phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Starts the preparation of {@code nextStep} in the background. When
+     * running pipelined this happens while the current {@link Step} is still
+     * being processed and the {@link DataProvider DataProviders} required by
+     * both remain available during the preparation.
+     *
+     * @param nextStep the {@link Step} to be processed next
+     *
+     * @return the {@link Future} producing {@code nextStep} once its
+     * preparation has finished
+     */
+    private Future<Step> prepareNextStep(final Step nextStep) {
+        return prepareExecutor.submit(() -> {
+            LOG.info("call {}.prepareStep()", nextStep.getClass().getSimpleName());
+            final long startNanos = System.nanoTime();
+
+            try {
+                nextStep.prepareStep(context);
+            } catch (RuntimeException | Error e) {
+                LOG.error("StepPreparation has failed {} ", nextStep.getClass().getSimpleName(), e);
+            } finally {
+                telemetry.record(nextStep, StepTelemetry.Phase.PREPARE, System.nanoTime() - startNanos);
             }
+
+            return nextStep;
+        });
+    }
+
+    /**
+     * Awaits the preparation of {@code nextStep} for at most the configured
+     * {@link StepEngineSettings#prepareTimeout()}. In case the preparation
+     * does not finish in time it is cancelled and {@code nextStep} is
+     * processed unprepared.
+     *
+     * @param nextStep the {@link Step} being prepared
+     *
+     * @param preparation the preparation of {@code nextStep}
+     *
+     * @return the {@link Step} to process next
+     */
+    private Step awaitPreparedStep(final Step nextStep, final Future<Step> preparation) {
+        try {
+            return preparation.get(prepareTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            LOG.error("Await preparation of step {} interrupted", nextStep.getClass().getSimpleName(), ex);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            LOG.warn("Preparation of step {} did not finish in time, processing it unprepared", nextStep.getClass().getSimpleName(), ex);
         }
+
+        preparation.cancel(true);
+        return nextStep;
     }
 }
@@ -27,18 +27,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 
 final class StepIterator {
@@ -47,10 +49,21 @@ final class StepIterator {
     private int stepIndex = 0;
     private final List<Step> steps;
     private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders;
+    private final Set<Class<? extends DataProvider>> allRequiredDataProviders;
+    private final Set<Step> quarantinedSteps = new HashSet<>();
+    private final Map<Step, StaleTracker> staleTrackers;
+    private final Map<Step, Map<Step, Collection<Class<? extends DataProvider>>>> transitionDataProviders = new HashMap<>();
 
-    private StepIterator(final List<Step> steps, final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders) {
+    private StepIterator(
+            final List<Step> steps,
+            final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders,
+            final Map<Step, StaleTracker> staleTrackers) {
         this.steps = new ArrayList<>(steps);
         this.requiredDataProviders = Collections.unmodifiableMap(requiredDataProviders);
+        this.staleTrackers = Map.copyOf(staleTrackers);
+        this.allRequiredDataProviders = requiredDataProviders.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toUnmodifiableSet());
 
         if (steps.isEmpty()) {
             throw new IllegalArgumentException("StepIterator has no steps to iterate through!");
@@ -61,13 +74,41 @@ final class StepIterator {
         return requiredDataProviders.getOrDefault(step, Collections.emptyList());
     }
 
-    static StepIterator create() {
+    /**
+     * Retrieves the classes of the {@link DataProvider DataProviders} required
+     * by {@code currentStep} or {@code nextStep}. The result is computed once
+     * per transition and then reused.
+     *
+     * @param currentStep the {@link Step} being processed
+     *
+     * @param nextStep the {@link Step} following {@code currentStep}
+     *
+     * @return the classes of the required {@link DataProvider DataProviders}
+     */
+    Collection<Class<? extends DataProvider>> getRequiredDataProviders(final Step currentStep, final Step nextStep) {
+        Map<Step, Collection<Class<? extends DataProvider>>> transitions = transitionDataProviders.get(currentStep);
+
+        if (null == transitions) {
+            transitions = new HashMap<>();
+            transitionDataProviders.put(currentStep, transitions);
+        }
+
+        Collection<Class<? extends DataProvider>> dataProviderClasses = transitions.get(nextStep);
+
+        if (null == dataProviderClasses) {
+            final Set<Class<? extends DataProvider>> union = new LinkedHashSet<>(getRequiredDataProviders(currentStep));
+            union.addAll(getRequiredDataProviders(nextStep));
+            dataProviderClasses = List.copyOf(union);
+            transitions.put(nextStep, dataProviderClasses);
+        }
+
+        return dataProviderClasses;
+    }
+
+    static StepIterator create(final StepEngineSettings stepEngineSettings) {
         final Builder builder = new Builder();
 
-        Configuration.getInstance()
-                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class)
-                .steps()
-                .forEach(builder::addStep);
+        stepEngineSettings.steps().forEach(builder::addStep);
 
         return builder.build();
     }
@@ -76,19 +117,106 @@ final class StepIterator {
         steps.forEach(consumer);
     }
 
+    /**
+     * Applies {@code consumer} to every {@link Step} and the one following it
+     * in the rotation.
+     *
+     * @param consumer the consumer receiving a {@link Step} and the one
+     * following it
+     */
+    void applyWithTransitions(final BiConsumer<Step, Step> consumer) {
+        for (int i = 0; i < steps.size(); i++) {
+            consumer.accept(steps.get(i), steps.get((i + 1) % steps.size()));
+        }
+    }
+
     Set<Class<? extends DataProvider>> getRequiredDataProviders() {
-        return requiredDataProviders.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+        return allRequiredDataProviders;
     }
 
     Step next() {
-        if (stepIndex == steps.size()) {
-            //loop
-            stepIndex = 0;
+        Step step;
+
+        do {
+            if (stepIndex == steps.size()) {
+                //loop
+                stepIndex = 0;
+            }
+
+            step = steps.get(stepIndex++);
+        } while (quarantinedSteps.contains(step));
+
+        return step;
+    }
+
+    /**
+     * Removes the {@code step} from the rotation. The last {@link Step}
+     * remaining in the rotation cannot be quarantined.
+     *
+     * @param step the {@link Step} to quarantine
+     *
+     * @return {@code true} if the {@code step} has been quarantined
+     */
+    boolean quarantine(final Step step) {
+        if (!steps.contains(step) || quarantinedSteps.size() + 1 >= steps.size()) {
+            return false;
+        }
+
+        return quarantinedSteps.add(step);
+    }
+
+    /**
+     * Checks whether the {@code step} is to be skipped due to its data being
+     * stale. This is the case if {@code step} is configured to be skipped when
+     * stale, its {@code contentVersion} has not changed since it has last been
+     * checked and it has not already been skipped {@code maxStaleSkips}
+     * consecutive times.
+     *
+     * @param step the {@link Step} to check
+     *
+     * @param contentVersion the current version of the content provided to
+     * {@code step}
+     *
+     * @param maxStaleSkips the maximum number of consecutive skips
+     *
+     * @return {@code true} if the {@code step} is to be skipped
+     */
+    boolean isStale(final Step step, final long contentVersion, final int maxStaleSkips) {
+        final StaleTracker staleTracker = staleTrackers.get(step);
+        return null != staleTracker && staleTracker.isStale(contentVersion, maxStaleSkips);
+    }
+
+    boolean isSkippedWhenStale(final Step step) {
+        return staleTrackers.containsKey(step);
+    }
+
+    String getStaleSkipToken(final Step step) {
+        final StaleTracker staleTracker = staleTrackers.get(step);
+        return null == staleTracker ? null : staleTracker.skipToken;
+    }
+
+    private static final class StaleTracker {
+
+        private final String skipToken;
+        private boolean checked = false;
+        private long contentVersion;
+        private int consecutiveSkips;
+
+        private StaleTracker(final String skipToken) {
+            this.skipToken = skipToken;
         }
 
-        return steps.get(stepIndex++);
+        private boolean isStale(final long currentContentVersion, final int maxStaleSkips) {
+            if (checked && contentVersion == currentContentVersion && consecutiveSkips < maxStaleSkips) {
+                consecutiveSkips++;
+                return true;
+            }
+
+            checked = true;
+            contentVersion = currentContentVersion;
+            consecutiveSkips = 0;
+            return false;
+        }
     }
 
     @SuppressWarnings("CanIgnoreReturnValueSuggester")
@@ -102,6 +230,7 @@ final class StepIterator {
                         Function.identity()));
         private final List<Step> steps = new ArrayList<>();
         private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders = new HashMap<>();
+        private final Map<Step, StaleTracker> staleTrackers = new HashMap<>();
 
         private Builder addStep(final StepEngineSettings.StepDefinition stepDefinition) {
             final String stepClassName = stepDefinition.getStepClassName();
@@ -109,17 +238,21 @@ final class StepIterator {
 
             Objects.requireNonNull(factory, "Step.Factory creating '" + stepClassName + "' does not exist!");
             final Step step = factory.create(stepDefinition);
-            requiredDataProviders.put(step, Collections.unmodifiableList(new ArrayList<>(factory.getRequiredDataProviders(stepDefinition))));
+            requiredDataProviders.put(step, List.copyOf(factory.getRequiredDataProviders(stepDefinition)));
 
             Objects.requireNonNull(step, () -> "Step.Factory '" + factory + "' failed to create Step!");
             LOGGER.info("Step.Factory '{}' created '{}'", factory, step);
             steps.add(step);
 
+            if (stepDefinition.getSkipWhenStale()) {
+                staleTrackers.put(step, new StaleTracker(stepDefinition.getStaleSkipToken()));
+            }
+
             return this;
         }
 
         private StepIterator build() {
-            return new StepIterator(steps, requiredDataProviders);
+            return new StepIterator(steps, requiredDataProviders, staleTrackers);
         }
     }
 }
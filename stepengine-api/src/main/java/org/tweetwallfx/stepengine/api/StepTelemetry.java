@@ -0,0 +1,345 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing telemetry of the {@link Step Steps} processed by the
+ * {@link StepEngine}.
+ *
+ * <p>
+ * For every {@link Step} type and {@link Phase} the durations of the most
+ * recent executions are kept in a rolling window of configurable size (see
+ * {@link org.tweetwallfx.stepengine.api.config.StepEngineSettings#telemetryWindowSize()})
+ * from which {@link Statistics} are computed on request.
+ */
+public final class StepTelemetry {
+
+    /**
+     * The upper bounds (in milliseconds) of the histogram buckets. Durations
+     * exceeding the last bound are counted in an additional overflow bucket.
+     */
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000, 60_000};
+    private final int windowSize;
+    private final Map<String, StepRecord> stepRecords = new ConcurrentHashMap<>();
+
+    StepTelemetry(final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive but was " + windowSize);
+        }
+
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * A phase in the processing of a {@link Step}.
+     */
+    public enum Phase {
+
+        /**
+         * Execution of
+         * {@link Step#shouldSkip(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}.
+         */
+        SHOULD_SKIP,
+        /**
+         * Execution of
+         * {@link Step#prepareStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}.
+         */
+        PREPARE,
+        /**
+         * Execution of
+         * {@link Step#doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+         * on the engine thread.
+         */
+        DO_STEP,
+        /**
+         * Execution of
+         * {@link Step#doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+         * on the FX Platform thread.
+         */
+        PLATFORM_THREAD,
+        /**
+         * Sleeping in order to fulfill
+         * {@link Step#preferredStepDuration(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}.
+         */
+        SLEEP,
+        /**
+         * Waiting for
+         * {@link org.tweetwallfx.stepengine.api.StepEngine.MachineContext#proceed()}
+         * to be called.
+         */
+        AWAIT_PROCEED;
+    }
+
+    /**
+     * Statistics of the durations of a {@link Phase} of a {@link Step}.
+     *
+     * @param count the total number of recorded durations
+     *
+     * @param windowCount the number of durations within the rolling window
+     *
+     * @param min the minimum duration within the rolling window
+     *
+     * @param max the maximum duration within the rolling window
+     *
+     * @param mean the mean duration within the rolling window
+     *
+     * @param p50 the median duration within the rolling window
+     *
+     * @param p90 the 90th percentile duration within the rolling window
+     *
+     * @param p99 the 99th percentile duration within the rolling window
+     *
+     * @param histogram the number of durations within the rolling window per
+     * bucket identified by its (inclusive) upper bound with the overflow
+     * bucket being identified by {@link ChronoUnit#FOREVER}
+     */
+    public record Statistics(
+            long count,
+            int windowCount,
+            Duration min,
+            Duration max,
+            Duration mean,
+            Duration p50,
+            Duration p90,
+            Duration p99,
+            NavigableMap<Duration, Long> histogram) {
+
+        public Statistics {
+            histogram = Collections.unmodifiableNavigableMap(new TreeMap<>(histogram));
+        }
+    }
+
+    /**
+     * Records the duration of the {@code phase} of {@code step}.
+     *
+     * @param step the {@link Step}
+     *
+     * @param phase the {@link Phase}
+     *
+     * @param nanos the duration in nano seconds
+     */
+    void record(final Step step, final Phase phase, final long nanos) {
+        stepRecord(step).record(phase, nanos);
+    }
+
+    /**
+     * Records that waiting for {@code step} to call
+     * {@link org.tweetwallfx.stepengine.api.StepEngine.MachineContext#proceed()}
+     * timed out.
+     *
+     * @param step the {@link Step}
+     */
+    void recordProceedTimeout(final Step step) {
+        stepRecord(step).proceedTimeouts.incrementAndGet();
+    }
+
+    /**
+     * {@return the names of the {@link Step} types for which telemetry has
+     * been recorded}
+     */
+    public Set<String> getStepNames() {
+        return Set.copyOf(stepRecords.keySet());
+    }
+
+    /**
+     * Computes the {@link Statistics} of the {@code phase} of the {@link Step}
+     * type named {@code stepName}.
+     *
+     * @param stepName the name of the {@link Step} type
+     *
+     * @param phase the {@link Phase}
+     *
+     * @return the {@link Statistics} or an empty {@link Optional} in case no
+     * duration has been recorded
+     */
+    public Optional<Statistics> getStatistics(final String stepName, final Phase phase) {
+        Objects.requireNonNull(phase, "phase must not be null");
+        return Optional.ofNullable(stepRecords.get(stepName))
+                .flatMap(stepRecord -> stepRecord.statistics(phase));
+    }
+
+    /**
+     * Computes the {@link Statistics} of all {@link Phase Phases} of all
+     * {@link Step} types.
+     *
+     * @return the {@link Statistics} per {@link Phase} per {@link Step} type
+     * name
+     */
+    public Map<String, Map<Phase, Statistics>> getStatistics() {
+        final Map<String, Map<Phase, Statistics>> statistics = new TreeMap<>();
+
+        stepRecords.forEach((stepName, stepRecord) -> {
+            final Map<Phase, Statistics> phaseStatistics = new EnumMap<>(Phase.class);
+
+            for (final Phase phase : Phase.values()) {
+                stepRecord.statistics(phase).ifPresent(s -> phaseStatistics.put(phase, s));
+            }
+
+            statistics.put(stepName, Collections.unmodifiableMap(phaseStatistics));
+        });
+
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Determines the number of times waiting for the {@link Step} type named
+     * {@code stepName} to call
+     * {@link org.tweetwallfx.stepengine.api.StepEngine.MachineContext#proceed()}
+     * timed out.
+     *
+     * @param stepName the name of the {@link Step} type
+     *
+     * @return the number of timeouts
+     */
+    public long getProceedTimeouts(final String stepName) {
+        final StepRecord stepRecord = stepRecords.get(stepName);
+        return null == stepRecord
+                ? 0L
+                : stepRecord.proceedTimeouts.get();
+    }
+
+    /**
+     * {@return the number of times waiting for any {@link Step} to call
+     * {@link org.tweetwallfx.stepengine.api.StepEngine.MachineContext#proceed()}
+     * timed out}
+     */
+    public long getProceedTimeouts() {
+        return stepRecords.values().stream()
+                .mapToLong(stepRecord -> stepRecord.proceedTimeouts.get())
+                .sum();
+    }
+
+    private StepRecord stepRecord(final Step step) {
+        return stepRecords.computeIfAbsent(stepName(step), k -> new StepRecord(windowSize));
+    }
+
+    static String stepName(final Step step) {
+        return step.getClass().getSimpleName();
+    }
+
+    private static final class StepRecord {
+
+        private final AtomicLong proceedTimeouts = new AtomicLong();
+        private final Map<Phase, Window> windows;
+
+        private StepRecord(final int windowSize) {
+            final Map<Phase, Window> map = new EnumMap<>(Phase.class);
+
+            for (final Phase phase : Phase.values()) {
+                map.put(phase, new Window(windowSize));
+            }
+
+            this.windows = Collections.unmodifiableMap(map);
+        }
+
+        private void record(final Phase phase, final long nanos) {
+            windows.get(phase).record(nanos);
+        }
+
+        private Optional<Statistics> statistics(final Phase phase) {
+            return windows.get(phase).statistics();
+        }
+    }
+
+    /**
+     * Ring buffer of the most recently recorded durations.
+     */
+    private static final class Window {
+
+        private final long[] samples;
+        private long count = 0;
+
+        private Window(final int windowSize) {
+            this.samples = new long[windowSize];
+        }
+
+        private synchronized void record(final long nanos) {
+            samples[(int) (count % samples.length)] = Math.max(0L, nanos);
+            count++;
+        }
+
+        private Optional<Statistics> statistics() {
+            final long totalCount;
+            final long[] sorted;
+
+            synchronized (this) {
+                totalCount = count;
+                sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            }
+
+            if (0 == sorted.length) {
+                return Optional.empty();
+            }
+
+            Arrays.sort(sorted);
+            final NavigableMap<Duration, Long> histogram = new TreeMap<>();
+            long sum = 0L;
+
+            for (final long sample : sorted) {
+                sum += sample;
+                histogram.merge(bucketOf(sample), 1L, Long::sum);
+            }
+
+            return Optional.of(new Statistics(
+                    totalCount,
+                    sorted.length,
+                    Duration.ofNanos(sorted[0]),
+                    Duration.ofNanos(sorted[sorted.length - 1]),
+                    Duration.ofNanos(sum / sorted.length),
+                    Duration.ofNanos(percentile(sorted, 50)),
+                    Duration.ofNanos(percentile(sorted, 90)),
+                    Duration.ofNanos(percentile(sorted, 99)),
+                    histogram));
+        }
+
+        private static long percentile(final long[] sorted, final int percentile) {
+            final int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static Duration bucketOf(final long nanos) {
+            for (final long boundMs : BUCKET_BOUNDS_MS) {
+                if (nanos <= boundMs * 1_000_000L) {
+                    return Duration.ofMillis(boundMs);
+                }
+            }
+
+            return ChronoUnit.FOREVER.getDuration();
+        }
+    }
+}
@@ -53,11 +53,86 @@ import static org.tweetwallfx.util.ToString.map;
  * <p>
  * Param {@code visualizationSettings} list of settings for
  * {@link Visualization} instances
+ *
+ * <p>
+ * Param {@code pipelined} flag indicating that the {@link StepEngine} is to
+ * prepare the next {@link Step} (via
+ * {@link Step#prepareStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)})
+ * while the current one is still being processed instead of right before
+ * processing it. Defaults to {@code false}.
+ *
+ * <p>
+ * Param {@code prepareTimeout} the number of seconds the {@link StepEngine}
+ * waits for the preparation of the next {@link Step} to finish. A
+ * {@link Step} whose preparation does not finish in time is processed
+ * unprepared. Defaults to {@code 60L}.
+ *
+ * <p>
+ * Param {@code scheduleExecution} the execution model used to run
+ * {@link DataProvider.Scheduled} instances. Defaults to
+ * {@link ScheduleExecution#SINGLE_THREAD}.
+ *
+ * <p>
+ * Param {@code scheduleThreads} the number of threads used to run
+ * {@link DataProvider.Scheduled} instances in case of
+ * {@link ScheduleExecution#THREAD_POOL}. Defaults to {@code 4}.
+ *
+ * <p>
+ * Param {@code parallelStartup} flag indicating that the {@link DataProvider}
+ * instances are to be created and initialized in parallel and that the
+ * {@link StepEngine} is to start without awaiting their initialization. Each
+ * {@link Step} then only awaits the {@link DataProvider} instances it requires.
+ * Defaults to {@code false}.
+ *
+ * <p>
+ * Param {@code readinessTimeout} the number of seconds the {@link StepEngine}
+ * waits for newly created {@link DataProvider} instances to become ready. Once
+ * passed {@link Step Steps} are processed even though a {@link DataProvider}
+ * they require is not ready yet. Defaults to {@code 120L}.
+ *
+ * <p>
+ * Param {@code telemetryWindowSize} the number of most recent executions per
+ * {@link Step} type and phase the telemetry of the {@link StepEngine} is
+ * computed from. Defaults to {@code 100}.
+ *
+ * <p>
+ * Param {@code proceedSlack} the number of seconds a {@link Step} may take
+ * beyond its preferred step duration before the {@link StepEngine} no longer
+ * waits for the {@link Step} to proceed and forcibly advances to the next one.
+ * Defaults to {@code 60L}.
+ *
+ * <p>
+ * Param {@code quarantineThreshold} the number of consecutive times a
+ * {@link Step} has to miss its deadline before it is removed from the rotation
+ * of the {@link StepEngine}. A value less than {@code 1} disables the
+ * quarantine. Defaults to {@code 0}.
+ *
+ * <p>
+ * Param {@code maxStaleSkips} the maximum number of consecutive times a
+ * {@link Step} configured to be skipped when stale (see
+ * {@link StepDefinition#getSkipWhenStale()}) is skipped before it is processed
+ * again regardless of its data having changed. Defaults to {@code 3}.
+ *
+ * <p>
+ * Param {@code historyPrefetchPages} the number of pages of the tweet history
+ * fetched ahead of the slowest {@link DataProvider.HistoryAware} while
+ * replaying the history. Defaults to {@code 2}.
  */
 public record StepEngineSettings(
         List<StepDefinition> steps,
         List<DataProviderSetting> dataProviderSettings,
-        Map<String, VisualizationSetting> visualizationSettings) {
+        Map<String, VisualizationSetting> visualizationSettings,
+        Boolean pipelined,
+        Long prepareTimeout,
+        ScheduleExecution scheduleExecution,
+        Integer scheduleThreads,
+        Boolean parallelStartup,
+        Long readinessTimeout,
+        Integer telemetryWindowSize,
+        Long proceedSlack,
+        Integer quarantineThreshold,
+        Integer maxStaleSkips,
+        Integer historyPrefetchPages) {
 
     /**
      * Configuration key under which the data for this Settings object is stored
@@ -69,6 +144,35 @@ public record StepEngineSettings(
         steps = List.copyOf(Objects.requireNonNull(steps, "steps must not be null"));
         dataProviderSettings = nullable(dataProviderSettings);
         visualizationSettings = nullable(visualizationSettings);
+        pipelined = Objects.requireNonNullElse(pipelined, false);
+        prepareTimeout = Objects.requireNonNullElse(prepareTimeout, 60L);
+        if (prepareTimeout < 1) {
+            throw new IllegalArgumentException("property 'prepareTimeout' must be a positive number");
+        }
+        scheduleExecution = Objects.requireNonNullElse(scheduleExecution, ScheduleExecution.SINGLE_THREAD);
+        scheduleThreads = Objects.requireNonNullElse(scheduleThreads, 4);
+        if (scheduleThreads < 1) {
+            throw new IllegalArgumentException("property 'scheduleThreads' must be a positive number");
+        }
+        parallelStartup = Objects.requireNonNullElse(parallelStartup, false);
+        readinessTimeout = Objects.requireNonNullElse(readinessTimeout, 120L);
+        if (readinessTimeout < 0) {
+            throw new IllegalArgumentException("property 'readinessTimeout' must not be negative");
+        }
+        telemetryWindowSize = Objects.requireNonNullElse(telemetryWindowSize, 100);
+        proceedSlack = Objects.requireNonNullElse(proceedSlack, 60L);
+        if (proceedSlack < 0) {
+            throw new IllegalArgumentException("property 'proceedSlack' must not be negative");
+        }
+        quarantineThreshold = Objects.requireNonNullElse(quarantineThreshold, 0);
+        maxStaleSkips = Objects.requireNonNullElse(maxStaleSkips, 3);
+        if (maxStaleSkips < 0) {
+            throw new IllegalArgumentException("property 'maxStaleSkips' must not be negative");
+        }
+        historyPrefetchPages = Objects.requireNonNullElse(historyPrefetchPages, 2);
+        if (historyPrefetchPages < 1) {
+            throw new IllegalArgumentException("property 'historyPrefetchPages' must be a positive number");
+        }
     }
 
     @Override
@@ -103,6 +207,118 @@ public record StepEngineSettings(
         }
     }
 
+    /**
+     * Execution model for running {@link DataProvider.Scheduled} instances.
+     * Independent of the execution model a {@link DataProvider.Scheduled} is
+     * never run concurrently to itself.
+     */
+    public enum ScheduleExecution {
+
+        /**
+         * All {@link DataProvider.Scheduled} instances are run on the single
+         * thread also performing the scheduling. A long running execution
+         * delays every other {@link DataProvider.Scheduled}.
+         */
+        SINGLE_THREAD,
+        /**
+         * Every execution of a {@link DataProvider.Scheduled} is run on its
+         * own virtual thread.
+         */
+        VIRTUAL_THREAD,
+        /**
+         * Executions of {@link DataProvider.Scheduled} instances are run on a
+         * fixed size thread pool (see {@link StepEngineSettings#scheduleThreads()}).
+         * The pool is shared by all {@link DataProvider.Scheduled} instances
+         * without any isolation between them, so as many blocking executions
+         * as there are threads in the pool delay every other
+         * {@link DataProvider.Scheduled}.
+         */
+        THREAD_POOL;
+    }
+
+    /**
+     * The way new tweets are delivered to a {@link DataProvider.NewTweetAware}.
+     */
+    public enum TweetDelivery {
+
+        /**
+         * Every tweet is delivered on its own via
+         * {@link DataProvider.NewTweetAware#processNewTweet(org.tweetwallfx.tweet.api.Tweet)}.
+         */
+        SINGLE,
+        /**
+         * All tweets buffered at the time of delivery (at most
+         * {@link TweetDispatchSetting#batchSize()}) are delivered at once via
+         * {@link DataProvider.NewTweetAware#processNewTweets(java.util.List)}.
+         */
+        BATCH;
+    }
+
+    /**
+     * The policy applied when a new tweet is to be buffered for a
+     * {@link DataProvider.NewTweetAware}.
+     */
+    public enum TweetOverflowPolicy {
+
+        /**
+         * In case the buffer is full the oldest buffered tweet is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * In case the buffer is full the new tweet is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * A new tweet replaces an already buffered tweet with the same id. In
+         * case there is none and the buffer is full the oldest buffered tweet
+         * is dropped.
+         */
+        COALESCE;
+    }
+
+    /**
+     * POJO for the settings of the delivery of new tweets to a
+     * {@link DataProvider.NewTweetAware}. New tweets are buffered per
+     * {@link DataProvider.NewTweetAware} and delivered on a thread dedicated to
+     * it so that a slow {@link DataProvider.NewTweetAware} neither delays the
+     * others nor the tweet stream.
+     *
+     * <p>
+     * Param {@code bufferSize} the maximum number of tweets being buffered.
+     * Defaults to {@code 256}.
+     *
+     * <p>
+     * Param {@code delivery} the way buffered tweets are delivered. Defaults to
+     * {@link TweetDelivery#SINGLE}.
+     *
+     * <p>
+     * Param {@code batchSize} the maximum number of tweets delivered at once in
+     * case of {@link TweetDelivery#BATCH}. Defaults to {@code 32}.
+     *
+     * <p>
+     * Param {@code overflowPolicy} the policy applied when buffering a tweet.
+     * Defaults to {@link TweetOverflowPolicy#DROP_OLDEST}.
+     */
+    public record TweetDispatchSetting(
+            Integer bufferSize,
+            TweetDelivery delivery,
+            Integer batchSize,
+            TweetOverflowPolicy overflowPolicy) {
+
+        public TweetDispatchSetting {
+            bufferSize = Objects.requireNonNullElse(bufferSize, 256);
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("property 'bufferSize' must be a positive number");
+            }
+            delivery = Objects.requireNonNullElse(delivery, TweetDelivery.SINGLE);
+            batchSize = Objects.requireNonNullElse(batchSize, 32);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("property 'batchSize' must be a positive number");
+            }
+            overflowPolicy = Objects.requireNonNullElse(overflowPolicy, TweetOverflowPolicy.DROP_OLDEST);
+        }
+    }
+
     /**
      * Configurable object containing configuration data (via
      * {@link #getConfig()} or {@link #getConfig(java.lang.Class)}) for a
@@ -111,6 +327,8 @@ public record StepEngineSettings(
     public static final class StepDefinition extends ConfigurableObjectBase {
 
         private String stepClassName;
+        private boolean skipWhenStale;
+        private String staleSkipToken;
 
         /**
          * Returns the class name of the {@link Step}.
@@ -130,10 +348,57 @@ public record StepEngineSettings(
             this.stepClassName = stepClassName;
         }
 
+        /**
+         * Returns the flag indicating that the {@link Step} is to be skipped
+         * as long as the content of none of its required
+         * {@link DataProvider.Versioned} instances has changed since the
+         * {@link Step} was last considered for processing.
+         *
+         * @return the flag indicating that the {@link Step} is to be skipped
+         * when stale
+         */
+        public boolean getSkipWhenStale() {
+            return skipWhenStale;
+        }
+
+        /**
+         * Sets the flag indicating that the {@link Step} is to be skipped when
+         * stale.
+         *
+         * @param skipWhenStale the flag indicating that the {@link Step} is to
+         * be skipped when stale
+         */
+        public void setSkipWhenStale(final boolean skipWhenStale) {
+            this.skipWhenStale = skipWhenStale;
+        }
+
+        /**
+         * Returns the value registered as {@link Step#SKIP_TOKEN} when the
+         * {@link Step} is skipped for being stale.
+         *
+         * @return the value registered as {@link Step#SKIP_TOKEN}
+         */
+        public String getStaleSkipToken() {
+            return staleSkipToken;
+        }
+
+        /**
+         * Sets the value registered as {@link Step#SKIP_TOKEN} when the
+         * {@link Step} is skipped for being stale.
+         *
+         * @param staleSkipToken the value registered as
+         * {@link Step#SKIP_TOKEN}
+         */
+        public void setStaleSkipToken(final String staleSkipToken) {
+            this.staleSkipToken = staleSkipToken;
+        }
+
         @Override
         public String toString() {
             return createToString(this, map(
                     "stepClassName", getStepClassName(),
+                    "skipWhenStale", getSkipWhenStale(),
+                    "staleSkipToken", getStaleSkipToken(),
                     "config", getConfig()
             ), super.toString());
         }
@@ -153,6 +418,7 @@ public record StepEngineSettings(
     public static final class DataProviderSetting extends ConfigurableObjectBase {
 
         private String dataProviderClassName;
+        private TweetDispatchSetting tweetDispatch;
 
         /**
          * Returns the class name of the {@link DataProvider}.
@@ -173,6 +439,25 @@ public record StepEngineSettings(
             this.dataProviderClassName = dataProviderClassName;
         }
 
+        /**
+         * Returns the settings for the delivery of new tweets in case the
+         * {@link DataProvider} is a {@link DataProvider.NewTweetAware}.
+         *
+         * @return the settings for the delivery of new tweets
+         */
+        public TweetDispatchSetting getTweetDispatch() {
+            return Objects.requireNonNullElseGet(tweetDispatch, () -> new TweetDispatchSetting(null, null, null, null));
+        }
+
+        /**
+         * Sets the settings for the delivery of new tweets.
+         *
+         * @param tweetDispatch the settings for the delivery of new tweets
+         */
+        public void setTweetDispatch(final TweetDispatchSetting tweetDispatch) {
+            this.tweetDispatch = tweetDispatch;
+        }
+
         @Override
         public <T> T getConfig(final Class<T> typeClass) {
             @SuppressWarnings("unchecked")
@@ -185,6 +470,7 @@ public record StepEngineSettings(
         public String toString() {
             return createToString(this, map(
                     "dataProviderClassName", getDataProviderClassName(),
+                    "tweetDispatch", getTweetDispatch(),
                     "config", getConfig()
             ), super.toString());
         }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+
+class HistoryReplayTest {
+
+    @Test
+    void historyIsReplayedInOrderToEveryProvider() throws Exception {
+        final List<Tweet> history = IntStream.range(0, 25).mapToObj(i -> mock(Tweet.class)).toList();
+        final TestHistoryAware historyAware = new TestHistoryAware();
+        final FailingHistoryAware failingHistoryAware = new FailingHistoryAware();
+        final HistoryReplay replay = new HistoryReplay(history::stream, List.of(historyAware, failingHistoryAware), 10, 1);
+
+        assertThat(replay.getProgress().completed()).isFalse();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            replay.start(executor);
+            replay.completion(historyAware).get(5, TimeUnit.SECONDS);
+            replay.completion(failingHistoryAware).get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(historyAware.tweets).containsExactlyElementsOf(history);
+        assertThat(replay.getProgress()).isEqualTo(new HistoryReplay.Progress(
+                25,
+                true,
+                Map.of("TestHistoryAware", 25L, "FailingHistoryAware", 25L),
+                true));
+    }
+
+    @Test
+    void interruptedHandOverAbandonsReplay() throws Exception {
+        final List<Tweet> history = IntStream.range(0, 25).mapToObj(i -> mock(Tweet.class)).toList();
+        final CountDownLatch release = new CountDownLatch(1);
+        final BlockingHistoryAware historyAware = new BlockingHistoryAware(release);
+        final HistoryReplay replay = new HistoryReplay(history::stream, List.of(historyAware), 1, 1);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        replay.start(command -> threads.add(Thread.ofVirtual().start(command)));
+
+        // one chunk is being processed, one is prefetched and the third one is being handed over
+        final long deadline = System.currentTimeMillis() + 5_000L;
+        while (replay.getProgress().fetchedTweets() < 3) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10L);
+        }
+
+        // the fetching is started last
+        threads.get(1).interrupt();
+
+        assertThatThrownBy(() -> replay.completion(historyAware).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+
+        release.countDown();
+        for (final Thread thread : threads) {
+            assertThat(thread.join(Duration.ofSeconds(5))).isTrue();
+        }
+
+        assertThat(replay.getProgress().fetchCompleted()).isTrue();
+        assertThat(replay.getProgress().fetchedTweets()).isLessThan(25L);
+        assertThat(historyAware.processedTweets).hasValueLessThan(25);
+    }
+
+    private static final class TestHistoryAware implements DataProvider.HistoryAware {
+
+        private final List<Tweet> tweets = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void processHistoryTweet(final Tweet tweet) {
+            tweets.add(tweet);
+        }
+    }
+
+    private static final class BlockingHistoryAware implements DataProvider.HistoryAware {
+
+        private final CountDownLatch release;
+        private final AtomicInteger processedTweets = new AtomicInteger();
+
+        private BlockingHistoryAware(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void processHistoryTweet(final Tweet tweet) {
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+
+            processedTweets.incrementAndGet();
+        }
+    }
+
+    private static final class FailingHistoryAware implements DataProvider.HistoryAware {
+
+        @Override
+        public void processHistoryTweet(final Tweet tweet) {
+            throw new IllegalStateException("failing on purpose");
+        }
+    }
+}
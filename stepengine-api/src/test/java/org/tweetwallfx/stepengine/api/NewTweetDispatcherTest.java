@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+
+class NewTweetDispatcherTest {
+
+    // creates threads never draining the buffer
+    private static final ThreadFactory IDLE_THREAD_FACTORY = runnable -> new Thread(() -> {
+    });
+
+    @Test
+    void dropOldestKeepsNewestTweets() {
+        final NewTweetDispatcher dispatcher = new NewTweetDispatcher(IDLE_THREAD_FACTORY);
+        dispatcher.register(new TestNewTweetAware(), setting(StepEngineSettings.TweetOverflowPolicy.DROP_OLDEST));
+
+        for (int i = 1; i <= 4; i++) {
+            dispatcher.dispatch(tweet(i));
+        }
+
+        assertThat(dispatcher.getStatistics()).containsOnlyKeys("TestNewTweetAware");
+        assertThat(dispatcher.getStatistics().get("TestNewTweetAware"))
+                .isEqualTo(new NewTweetDispatcher.Statistics(4, 0, 2, 0, 0, 2));
+    }
+
+    @Test
+    void coalesceReplacesBufferedTweetWithSameId() {
+        final NewTweetDispatcher dispatcher = new NewTweetDispatcher(IDLE_THREAD_FACTORY);
+        dispatcher.register(new TestNewTweetAware(), setting(StepEngineSettings.TweetOverflowPolicy.COALESCE));
+
+        dispatcher.dispatch(tweet(1));
+        dispatcher.dispatch(tweet(1));
+        dispatcher.dispatch(tweet(2));
+
+        assertThat(dispatcher.getStatistics().get("TestNewTweetAware"))
+                .isEqualTo(new NewTweetDispatcher.Statistics(3, 0, 0, 1, 0, 2));
+    }
+
+    @Test
+    void batchesAreDeliveredInOrder() throws InterruptedException {
+        final TestNewTweetAware newTweetAware = new TestNewTweetAware();
+        final NewTweetDispatcher dispatcher = new NewTweetDispatcher(Thread.ofVirtual().factory());
+        final Tweet first = tweet(1);
+        final Tweet second = tweet(2);
+
+        dispatcher.register(newTweetAware, new StepEngineSettings.TweetDispatchSetting(
+                null, StepEngineSettings.TweetDelivery.BATCH, null, null));
+        dispatcher.dispatch(first);
+        dispatcher.dispatch(second);
+
+        assertThat(newTweetAware.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(newTweetAware.tweets).containsExactly(first, second);
+        dispatcher.unregister(newTweetAware);
+        assertThat(dispatcher.isEmpty()).isTrue();
+    }
+
+    private static StepEngineSettings.TweetDispatchSetting setting(final StepEngineSettings.TweetOverflowPolicy overflowPolicy) {
+        return new StepEngineSettings.TweetDispatchSetting(2, null, null, overflowPolicy);
+    }
+
+    private static Tweet tweet(final long id) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        return tweet;
+    }
+
+    private static final class TestNewTweetAware implements DataProvider.NewTweetAware {
+
+        private final List<Tweet> tweets = new CopyOnWriteArrayList<>();
+        private final CountDownLatch delivered = new CountDownLatch(2);
+
+        @Override
+        public void processNewTweet(final Tweet tweet) {
+            tweets.add(tweet);
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ScheduledDataProviderRunnerTest {
+
+    private final ScheduledExecutorService scheduleExecutor = mock(ScheduledExecutorService.class);
+    // executions handed over to the run executor, run manually by the tests
+    private final Deque<Runnable> executions = new ArrayDeque<>();
+
+    @Test
+    void triggerWhileRunningIsSkippedAndCountedAsOverrun() {
+        final TestScheduled scheduled = new TestScheduled(DataProvider.ScheduleType.FIXED_RATE, 60L, 1, 0L);
+        final ScheduledDataProviderRunner runner = new ScheduledDataProviderRunner(scheduled, scheduleExecutor, executions::add);
+
+        runner.start();
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduleExecutor).scheduleAtFixedRate(trigger.capture(), eq(1L), eq(60L), eq(TimeUnit.SECONDS));
+
+        trigger.getValue().run();
+        trigger.getValue().run();
+
+        assertThat(executions).hasSize(1);
+        assertThat(runner.getOverruns()).isEqualTo(1L);
+
+        executions.remove().run();
+        trigger.getValue().run();
+
+        assertThat(scheduled.runs).isEqualTo(1);
+        assertThat(executions).hasSize(1);
+        assertThat(runner.getOverruns()).isEqualTo(1L);
+    }
+
+    @Test
+    void executionExceedingScheduleDurationIsCountedAsOverrun() {
+        final TestScheduled scheduled = new TestScheduled(DataProvider.ScheduleType.FIXED_RATE, 0L, 1, 10L);
+        final ScheduledDataProviderRunner runner = new ScheduledDataProviderRunner(scheduled, scheduleExecutor, Runnable::run);
+
+        runner.start();
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduleExecutor).scheduleAtFixedRate(trigger.capture(), eq(1L), eq(0L), eq(TimeUnit.SECONDS));
+
+        trigger.getValue().run();
+
+        assertThat(scheduled.runs).isEqualTo(1);
+        assertThat(runner.getOverruns()).isEqualTo(1L);
+    }
+
+    @Test
+    void fixedDelayIsRescheduledOnceExecutionFinished() {
+        final TestScheduled scheduled = new TestScheduled(DataProvider.ScheduleType.FIXED_DELAY, 60L, 1, 0L);
+        final ScheduledDataProviderRunner runner = new ScheduledDataProviderRunner(scheduled, scheduleExecutor, executions::add);
+
+        runner.start();
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduleExecutor).schedule(trigger.capture(), eq(1L), eq(TimeUnit.SECONDS));
+
+        trigger.getValue().run();
+        verify(scheduleExecutor, never()).schedule(any(Runnable.class), eq(60L), eq(TimeUnit.SECONDS));
+
+        executions.remove().run();
+        verify(scheduleExecutor).schedule(any(Runnable.class), eq(60L), eq(TimeUnit.SECONDS));
+
+        trigger.getValue().run();
+        runner.stop();
+        executions.remove().run();
+        trigger.getValue().run();
+
+        // neither rescheduled nor executed again once stopped
+        verify(scheduleExecutor).schedule(any(Runnable.class), eq(60L), eq(TimeUnit.SECONDS));
+        assertThat(executions).isEmpty();
+        assertThat(scheduled.runs).isEqualTo(2);
+    }
+
+    @Test
+    void initializationCompletesAfterExecutionReportingInitialized() {
+        final TestScheduled scheduled = new TestScheduled(DataProvider.ScheduleType.FIXED_RATE, 60L, 2, 0L);
+        final ScheduledDataProviderRunner runner = new ScheduledDataProviderRunner(scheduled, scheduleExecutor, Runnable::run);
+
+        runner.start();
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduleExecutor).scheduleAtFixedRate(trigger.capture(), eq(1L), eq(60L), eq(TimeUnit.SECONDS));
+
+        trigger.getValue().run();
+        assertThat(runner.initialization()).isNotDone();
+
+        trigger.getValue().run();
+        assertThat(runner.initialization()).isCompleted();
+    }
+
+    private static final class TestScheduled implements DataProvider.Scheduled {
+
+        private final DataProvider.ScheduledConfig scheduledConfig;
+        private final int initializedAfterRuns;
+        private final long runMillis;
+        private int runs;
+
+        private TestScheduled(
+                final DataProvider.ScheduleType scheduleType,
+                final long scheduleDuration,
+                final int initializedAfterRuns,
+                final long runMillis) {
+            this.scheduledConfig = new TestScheduledConfig(scheduleType, 1L, scheduleDuration);
+            this.initializedAfterRuns = initializedAfterRuns;
+            this.runMillis = runMillis;
+        }
+
+        @Override
+        public DataProvider.ScheduledConfig getScheduleConfig() {
+            return scheduledConfig;
+        }
+
+        @Override
+        public boolean requiresInitialization() {
+            return true;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return runs >= initializedAfterRuns;
+        }
+
+        @Override
+        public void run() {
+            runs++;
+
+            try {
+                Thread.sleep(runMillis);
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record TestScheduledConfig(
+            DataProvider.ScheduleType scheduleType,
+            Long initialDelay,
+            Long scheduleDuration) implements DataProvider.ScheduledConfig {
+    }
+}
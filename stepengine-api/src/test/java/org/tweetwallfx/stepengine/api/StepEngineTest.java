@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tweetwallfx.stepengine.api.TestSteps.awaitEvents;
+import static org.tweetwallfx.stepengine.api.TestSteps.count;
+import static org.tweetwallfx.stepengine.api.TestSteps.dataProvider;
+import static org.tweetwallfx.stepengine.api.TestSteps.settings;
+import static org.tweetwallfx.stepengine.api.TestSteps.step;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+class StepEngineTest {
+
+    private StepEngine stepEngine;
+
+    @AfterEach
+    void terminate() {
+        if (null != stepEngine) {
+            stepEngine.terminate();
+        }
+    }
+
+    @Test
+    void stepMissingItsDeadlineIsForciblyAdvancedAndQuarantined(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        stepEngine = start(settings(
+                List.of(
+                        step(TestSteps.StallingStep.class, recorder, false),
+                        step(TestSteps.ProceedingStep.class, recorder, false)),
+                List.of(),
+                2));
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "ProceedingStep") >= 5);
+
+        // the stalling step no longer blocks the rotation and is removed from it after its second missed deadline
+        assertThat(events.subList(0, 4)).containsExactly("StallingStep", "ProceedingStep", "StallingStep", "ProceedingStep");
+        assertThat(count(events, "StallingStep")).isEqualTo(2L);
+        assertThat(stepEngine.getTelemetry().getProceedTimeouts("StallingStep")).isEqualTo(2L);
+        assertThat(stepEngine.getTelemetry().getProceedTimeouts("ProceedingStep")).isZero();
+    }
+
+    @Test
+    void stepMissingItsDeadlineRemainsInRotationWithoutQuarantine(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        stepEngine = start(settings(
+                List.of(
+                        step(TestSteps.StallingStep.class, recorder, false),
+                        step(TestSteps.ProceedingStep.class, recorder, false)),
+                List.of(),
+                0));
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "StallingStep") >= 4);
+
+        assertThat(count(events, "ProceedingStep")).isGreaterThanOrEqualTo(3L);
+        assertThat(stepEngine.getTelemetry().getProceedTimeouts("StallingStep")).isGreaterThanOrEqualTo(4L);
+    }
+
+    @Test
+    void lastStepInRotationIsNotQuarantined(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        stepEngine = start(settings(
+                List.of(step(TestSteps.StallingStep.class, recorder, false)),
+                List.of(),
+                1));
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "StallingStep") >= 3);
+
+        assertThat(events).containsOnly("StallingStep");
+    }
+
+    @Test
+    void stepIsPreparedBeforeEveryExecutionWhenNotPipelined(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        stepEngine = start(settings(
+                List.of(
+                        step(TestSteps.PreparingStep.class, recorder, false),
+                        step(TestSteps.ProceedingStep.class, recorder, false)),
+                List.of(),
+                0));
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "PreparingStep") >= 2);
+
+        assertThat(events.subList(0, 5)).containsExactly(
+                "prepared PreparingStep", "PreparingStep", "ProceedingStep",
+                "prepared PreparingStep", "PreparingStep");
+    }
+
+    @Test
+    void staleStepIsSkippedUntilMaxStaleSkipsIsReached(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        stepEngine = start(settings(
+                List.of(
+                        step(TestSteps.FirstStep.class, recorder, true),
+                        step(TestSteps.ProceedingStep.class, recorder, false)),
+                List.of(dataProvider(TestSteps.FirstDataProvider.class, recorder)),
+                0,
+                2));
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "FirstStep") >= 3);
+
+        // the content of FirstDataProvider never changes
+        assertThat(events.stream().filter(event -> !event.startsWith("created ")).limit(9).toList()).containsExactly(
+                "FirstStep", "ProceedingStep", "ProceedingStep", "ProceedingStep",
+                "FirstStep", "ProceedingStep", "ProceedingStep", "ProceedingStep",
+                "FirstStep");
+    }
+
+    @Test
+    void reloadReplacesStepsAndDataProviders(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        final AtomicReference<StepEngineSettings> stepEngineSettings = new AtomicReference<>(settings(
+                List.of(step(TestSteps.FirstStep.class, recorder, false)),
+                List.of(dataProvider(TestSteps.FirstDataProvider.class, recorder)),
+                0));
+        stepEngine = new StepEngine(stepEngineSettings::get);
+        stepEngine.go();
+        awaitEvents(recorder, e -> count(e, "FirstStep") >= 2);
+
+        stepEngineSettings.set(settings(
+                List.of(step(TestSteps.SecondStep.class, recorder, false)),
+                List.of(dataProvider(TestSteps.SecondDataProvider.class, recorder)),
+                0));
+        stepEngine.reloadSteps();
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "SecondStep") >= 2);
+        final int reloadedIndex = events.indexOf("created SecondDataProvider");
+
+        // the new DataProvider is available before the obsolete one is shut down
+        assertThat(reloadedIndex).isPositive().isLessThan(events.indexOf("shutdown FirstDataProvider"));
+        assertThat(events.subList(reloadedIndex, events.size()))
+                .doesNotContain("FirstStep")
+                .contains("SecondStep");
+    }
+
+    @Test
+    void failedReloadContinuesWithCurrentSteps(final TestInfo testInfo) throws InterruptedException {
+        final String recorder = testInfo.getDisplayName();
+        final StepEngineSettings stepEngineSettings = settings(
+                List.of(step(TestSteps.FirstStep.class, recorder, false)),
+                List.of(dataProvider(TestSteps.FirstDataProvider.class, recorder)),
+                0);
+        final AtomicInteger retrievals = new AtomicInteger();
+        stepEngine = new StepEngine(() -> {
+            if (retrievals.incrementAndGet() > 1) {
+                throw new IllegalStateException("invalid configuration");
+            }
+
+            return stepEngineSettings;
+        });
+        stepEngine.go();
+        awaitEvents(recorder, e -> count(e, "FirstStep") >= 1);
+
+        stepEngine.reloadSteps();
+        final long processedBeforeReload = count(awaitEvents(recorder, e -> retrievals.get() > 1), "FirstStep");
+
+        final List<String> events = awaitEvents(recorder, e -> count(e, "FirstStep") >= processedBeforeReload + 2);
+
+        assertThat(events).containsOnly("created FirstDataProvider", "FirstStep");
+    }
+
+    static StepEngine start(final StepEngineSettings stepEngineSettings) {
+        final StepEngine stepEngine = new StepEngine(() -> stepEngineSettings);
+        stepEngine.go();
+        return stepEngine;
+    }
+}
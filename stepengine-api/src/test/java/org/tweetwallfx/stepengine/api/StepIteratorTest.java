@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tweetwallfx.stepengine.api.TestSteps.settings;
+import static org.tweetwallfx.stepengine.api.TestSteps.step;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+class StepIteratorTest {
+
+    @Test
+    void quarantinedStepIsNoLongerIterated() {
+        final StepIterator stepIterator = StepIterator.create(settings(
+                List.of(
+                        step(TestSteps.StallingStep.class, "quarantine", false),
+                        step(TestSteps.ProceedingStep.class, "quarantine", false)),
+                List.of(),
+                0));
+        final List<Step> steps = steps(stepIterator);
+
+        assertThat(stepIterator.quarantine(steps.get(0))).isTrue();
+        assertThat(stepIterator.quarantine(steps.get(0))).isFalse();
+        assertThat(List.of(stepIterator.next(), stepIterator.next(), stepIterator.next()))
+                .containsOnly(steps.get(1));
+    }
+
+    @Test
+    void lastStepInRotationCannotBeQuarantined() {
+        final StepIterator stepIterator = StepIterator.create(settings(
+                List.of(
+                        step(TestSteps.StallingStep.class, "quarantine", false),
+                        step(TestSteps.ProceedingStep.class, "quarantine", false)),
+                List.of(),
+                0));
+        final List<Step> steps = steps(stepIterator);
+
+        assertThat(stepIterator.quarantine(steps.get(1))).isTrue();
+        assertThat(stepIterator.quarantine(steps.get(0))).isFalse();
+        assertThat(stepIterator.next()).isSameAs(steps.get(0));
+    }
+
+    @Test
+    void staleStepIsSkippedAtMostMaxStaleSkipsConsecutiveTimes() {
+        final StepIterator stepIterator = staleSkippingStepIterator();
+        final Step step = steps(stepIterator).get(0);
+
+        // the first check only records the content version
+        assertThat(stepIterator.isStale(step, 7L, 2)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isTrue();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isTrue();
+        // processed regardless of the unchanged content after two consecutive skips
+        assertThat(stepIterator.isStale(step, 7L, 2)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isTrue();
+    }
+
+    @Test
+    void changedContentVersionIsNotStale() {
+        final StepIterator stepIterator = staleSkippingStepIterator();
+        final Step step = steps(stepIterator).get(0);
+
+        assertThat(stepIterator.isStale(step, 7L, 2)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isTrue();
+        assertThat(stepIterator.isStale(step, 8L, 2)).isFalse();
+        assertThat(stepIterator.isStale(step, 8L, 2)).isTrue();
+    }
+
+    @Test
+    void zeroMaxStaleSkipsNeverSkips() {
+        final StepIterator stepIterator = staleSkippingStepIterator();
+        final Step step = steps(stepIterator).get(0);
+
+        assertThat(stepIterator.isStale(step, 7L, 0)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 0)).isFalse();
+    }
+
+    @Test
+    void stepNotSkippedWhenStaleIsNeverStale() {
+        final StepIterator stepIterator = staleSkippingStepIterator();
+        final Step step = steps(stepIterator).get(1);
+
+        assertThat(stepIterator.isSkippedWhenStale(step)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isFalse();
+        assertThat(stepIterator.isStale(step, 7L, 2)).isFalse();
+        assertThat(stepIterator.getStaleSkipToken(step)).isNull();
+    }
+
+    @Test
+    void staleSkipTokenIsTakenFromStepDefinition() {
+        final StepEngineSettings.StepDefinition stepDefinition = step(TestSteps.ProceedingStep.class, "stale", true);
+        stepDefinition.setStaleSkipToken("stale-token");
+        final StepIterator stepIterator = StepIterator.create(settings(List.of(stepDefinition), List.of(), 0));
+        final Step step = steps(stepIterator).get(0);
+
+        assertThat(stepIterator.isSkippedWhenStale(step)).isTrue();
+        assertThat(stepIterator.getStaleSkipToken(step)).isEqualTo("stale-token");
+    }
+
+    private static StepIterator staleSkippingStepIterator() {
+        return StepIterator.create(settings(
+                List.of(
+                        step(TestSteps.ProceedingStep.class, "stale", true),
+                        step(TestSteps.StallingStep.class, "stale", false)),
+                List.of(),
+                0));
+    }
+
+    static List<Step> steps(final StepIterator stepIterator) {
+        final List<Step> steps = new ArrayList<>();
+        stepIterator.applyWith(steps::add);
+        return steps;
+    }
+}
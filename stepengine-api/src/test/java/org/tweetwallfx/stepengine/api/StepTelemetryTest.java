@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.assertj.core.data.MapEntry;
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
+
+class StepTelemetryTest {
+
+    private static final Step STEP = new TestStep();
+
+    @Test
+    void noStatisticsWithoutRecords() {
+        final StepTelemetry telemetry = new StepTelemetry(5);
+
+        assertThat(telemetry.getStepNames()).isEmpty();
+        assertThat(telemetry.getStatistics("TestStep", StepTelemetry.Phase.DO_STEP)).isEmpty();
+        assertThat(telemetry.getStatistics()).isEmpty();
+        assertThat(telemetry.getProceedTimeouts()).isZero();
+    }
+
+    @Test
+    void statisticsAreComputedFromRollingWindow() {
+        final StepTelemetry telemetry = new StepTelemetry(5);
+
+        for (int i = 1; i <= 10; i++) {
+            telemetry.record(STEP, StepTelemetry.Phase.DO_STEP, Duration.ofMillis(i).toNanos());
+        }
+
+        assertThat(telemetry.getStepNames()).containsExactly("TestStep");
+        assertThat(telemetry.getStatistics("TestStep", StepTelemetry.Phase.SLEEP)).isEmpty();
+        assertThat(telemetry.getStatistics("TestStep", StepTelemetry.Phase.DO_STEP)).hasValueSatisfying(statistics -> {
+            assertThat(statistics.count()).isEqualTo(10L);
+            assertThat(statistics.windowCount()).isEqualTo(5);
+            assertThat(statistics.min()).isEqualTo(Duration.ofMillis(6));
+            assertThat(statistics.max()).isEqualTo(Duration.ofMillis(10));
+            assertThat(statistics.mean()).isEqualTo(Duration.ofMillis(8));
+            assertThat(statistics.p50()).isEqualTo(Duration.ofMillis(8));
+            assertThat(statistics.p90()).isEqualTo(Duration.ofMillis(10));
+            assertThat(statistics.p99()).isEqualTo(Duration.ofMillis(10));
+            assertThat(statistics.histogram()).containsExactly(MapEntry.entry(Duration.ofMillis(10), 5L));
+        });
+    }
+
+    @Test
+    void proceedTimeoutsAreCounted() {
+        final StepTelemetry telemetry = new StepTelemetry(5);
+
+        telemetry.recordProceedTimeout(STEP);
+        telemetry.recordProceedTimeout(STEP);
+
+        assertThat(telemetry.getProceedTimeouts("TestStep")).isEqualTo(2L);
+        assertThat(telemetry.getProceedTimeouts("OtherStep")).isZero();
+        assertThat(telemetry.getProceedTimeouts()).isEqualTo(2L);
+    }
+
+    @Test
+    void windowSizeMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StepTelemetry(0));
+    }
+
+    private static final class TestStep implements Step {
+
+        @Override
+        public void doStep(final MachineContext context) {
+            // nothing to do
+        }
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+/**
+ * {@link Step Steps} and {@link DataProvider DataProviders} registered as
+ * services for the tests of the {@link StepEngine}. Every one of them records
+ * its events under the recorder configured for it.
+ */
+final class TestSteps {
+
+    private static final Map<String, List<String>> EVENTS = new ConcurrentHashMap<>();
+
+    private TestSteps() {
+        // prevent instantiation
+    }
+
+    /**
+     * Creates the definition of a {@link Step} recording its events under
+     * {@code recorder}.
+     *
+     * @param stepClass the class of the {@link Step}
+     *
+     * @param recorder the name of the recorder
+     *
+     * @param skipWhenStale flag indicating that the {@link Step} is to be
+     * skipped when stale
+     *
+     * @return the definition
+     */
+    static StepEngineSettings.StepDefinition step(final Class<? extends Step> stepClass, final String recorder, final boolean skipWhenStale) {
+        final StepEngineSettings.StepDefinition stepDefinition = new StepEngineSettings.StepDefinition();
+        stepDefinition.setStepClassName(stepClass.getCanonicalName());
+        stepDefinition.setSkipWhenStale(skipWhenStale);
+        stepDefinition.setConfig(Map.of("recorder", recorder));
+        return stepDefinition;
+    }
+
+    /**
+     * Creates the setting of a {@link DataProvider} recording its events under
+     * {@code recorder}.
+     *
+     * @param dataProviderClass the class of the {@link DataProvider}
+     *
+     * @param recorder the name of the recorder
+     *
+     * @return the setting
+     */
+    static StepEngineSettings.DataProviderSetting dataProvider(final Class<? extends DataProvider> dataProviderClass, final String recorder) {
+        final StepEngineSettings.DataProviderSetting dataProviderSetting = new StepEngineSettings.DataProviderSetting();
+        dataProviderSetting.setDataProviderClassName(dataProviderClass.getName());
+        dataProviderSetting.setConfig(Map.of("recorder", recorder));
+        return dataProviderSetting;
+    }
+
+    /**
+     * Creates settings for a non pipelined {@link StepEngine}.
+     *
+     * @param steps the definitions of the {@link Step Steps}
+     *
+     * @param dataProviderSettings the settings of the
+     * {@link DataProvider DataProviders}
+     *
+     * @param quarantineThreshold the quarantine threshold
+     *
+     * @return the settings
+     */
+    static StepEngineSettings settings(
+            final List<StepEngineSettings.StepDefinition> steps,
+            final List<StepEngineSettings.DataProviderSetting> dataProviderSettings,
+            final int quarantineThreshold) {
+        return settings(steps, dataProviderSettings, quarantineThreshold, 3);
+    }
+
+    /**
+     * Creates settings for a non pipelined {@link StepEngine}.
+     *
+     * @param steps the definitions of the {@link Step Steps}
+     *
+     * @param dataProviderSettings the settings of the
+     * {@link DataProvider DataProviders}
+     *
+     * @param quarantineThreshold the quarantine threshold
+     *
+     * @param maxStaleSkips the maximum number of consecutive stale skips
+     *
+     * @return the settings
+     */
+    static StepEngineSettings settings(
+            final List<StepEngineSettings.StepDefinition> steps,
+            final List<StepEngineSettings.DataProviderSetting> dataProviderSettings,
+            final int quarantineThreshold,
+            final int maxStaleSkips) {
+        return new StepEngineSettings(
+                steps,
+                dataProviderSettings,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0L,
+                quarantineThreshold,
+                maxStaleSkips,
+                null);
+    }
+
+    /**
+     * {@return the events recorded under {@code recorder}}
+     *
+     * @param recorder the name of the recorder
+     */
+    static List<String> events(final String recorder) {
+        return EVENTS.computeIfAbsent(recorder, r -> new CopyOnWriteArrayList<>());
+    }
+
+    /**
+     * Awaits the events recorded under {@code recorder} to fulfill
+     * {@code condition}.
+     *
+     * @param recorder the name of the recorder
+     *
+     * @param condition the condition to await
+     *
+     * @return the recorded events
+     *
+     * @throws InterruptedException in case the waiting is interrupted
+     */
+    static List<String> awaitEvents(final String recorder, final Predicate<List<String>> condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000L;
+
+        while (!condition.test(events(recorder))) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Events of " + recorder + " did not meet the condition in time: " + events(recorder));
+            }
+
+            Thread.sleep(10L);
+        }
+
+        return List.copyOf(events(recorder));
+    }
+
+    /**
+     * {@return the number of occurrences of {@code event} in {@code events}}
+     *
+     * @param events the recorded events
+     *
+     * @param event the event to count
+     */
+    static long count(final List<String> events, final String event) {
+        return events.stream().filter(event::equals).count();
+    }
+
+    private static String recorder(final StepEngineSettings.StepDefinition stepDefinition) {
+        return (String) stepDefinition.getConfig().get("recorder");
+    }
+
+    /**
+     * Base of the test {@link Step Steps} recording their execution.
+     */
+    private abstract static class RecordingStep implements Step {
+
+        final String recorder;
+        private final boolean proceeding;
+
+        private RecordingStep(final String recorder, final boolean proceeding) {
+            this.recorder = recorder;
+            this.proceeding = proceeding;
+        }
+
+        @Override
+        public void doStep(final MachineContext context) {
+            events(recorder).add(getClass().getSimpleName());
+
+            if (proceeding) {
+                context.proceed();
+            }
+        }
+
+        @Override
+        public Duration preferredStepDuration(final MachineContext context) {
+            return Duration.ofMillis(10);
+        }
+
+        @Override
+        public boolean requiresPlatformThread() {
+            return false;
+        }
+    }
+
+    /**
+     * {@link Step} proceeding right away.
+     */
+    static final class ProceedingStep extends RecordingStep {
+
+        private ProceedingStep(final String recorder) {
+            super(recorder, true);
+        }
+
+        public static final class Factory implements Step.Factory {
+
+            @Override
+            public Class<ProceedingStep> getStepClass() {
+                return ProceedingStep.class;
+            }
+
+            @Override
+            public ProceedingStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+                return new ProceedingStep(recorder(stepDefinition));
+            }
+        }
+    }
+
+    /**
+     * {@link Step} never proceeding and thereby missing its deadline.
+     */
+    static final class StallingStep extends RecordingStep {
+
+        private StallingStep(final String recorder) {
+            super(recorder, false);
+        }
+
+        public static final class Factory implements Step.Factory {
+
+            @Override
+            public Class<StallingStep> getStepClass() {
+                return StallingStep.class;
+            }
+
+            @Override
+            public StallingStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+                return new StallingStep(recorder(stepDefinition));
+            }
+        }
+    }
+
+    /**
+     * {@link Step} recording its preparation.
+     */
+    static final class PreparingStep extends RecordingStep {
+
+        private PreparingStep(final String recorder) {
+            super(recorder, true);
+        }
+
+        @Override
+        public void prepareStep(final MachineContext context) {
+            events(recorder).add("prepared PreparingStep");
+        }
+
+        public static final class Factory implements Step.Factory {
+
+            @Override
+            public Class<PreparingStep> getStepClass() {
+                return PreparingStep.class;
+            }
+
+            @Override
+            public PreparingStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+                return new PreparingStep(recorder(stepDefinition));
+            }
+        }
+    }
+
+    /**
+     * {@link Step} requiring the {@link FirstDataProvider}.
+     */
+    static final class FirstStep extends RecordingStep {
+
+        private FirstStep(final String recorder) {
+            super(recorder, true);
+        }
+
+        public static final class Factory implements Step.Factory {
+
+            @Override
+            public Class<FirstStep> getStepClass() {
+                return FirstStep.class;
+            }
+
+            @Override
+            public FirstStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+                return new FirstStep(recorder(stepDefinition));
+            }
+
+            @Override
+            public Collection<Class<? extends DataProvider>> getRequiredDataProviders(final StepEngineSettings.StepDefinition stepDefinition) {
+                return List.of(FirstDataProvider.class);
+            }
+        }
+    }
+
+    /**
+     * {@link Step} requiring the {@link SecondDataProvider}.
+     */
+    static final class SecondStep extends RecordingStep {
+
+        private SecondStep(final String recorder) {
+            super(recorder, true);
+        }
+
+        public static final class Factory implements Step.Factory {
+
+            @Override
+            public Class<SecondStep> getStepClass() {
+                return SecondStep.class;
+            }
+
+            @Override
+            public SecondStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+                return new SecondStep(recorder(stepDefinition));
+            }
+
+            @Override
+            public Collection<Class<? extends DataProvider>> getRequiredDataProviders(final StepEngineSettings.StepDefinition stepDefinition) {
+                return List.of(SecondDataProvider.class);
+            }
+        }
+    }
+
+    /**
+     * Base of the test {@link DataProvider DataProviders} recording their
+     * creation and shutdown.
+     */
+    private abstract static class RecordingDataProvider implements DataProvider {
+
+        private final String recorder;
+
+        private RecordingDataProvider(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+            this.recorder = (String) dataProviderSetting.getConfig().get("recorder");
+
+            if (null != recorder) {
+                events(recorder).add("created " + getClass().getSimpleName());
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            if (null != recorder) {
+                events(recorder).add("shutdown " + getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * {@link DataProvider} whose content never changes.
+     */
+    static final class FirstDataProvider extends RecordingDataProvider implements DataProvider.Versioned {
+
+        private FirstDataProvider(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+            super(dataProviderSetting);
+        }
+
+        @Override
+        public long getContentVersion() {
+            return 0L;
+        }
+
+        public static final class Factory implements DataProvider.Factory {
+
+            @Override
+            public Class<FirstDataProvider> getDataProviderClass() {
+                return FirstDataProvider.class;
+            }
+
+            @Override
+            public FirstDataProvider create(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+                return new FirstDataProvider(dataProviderSetting);
+            }
+        }
+    }
+
+    static final class SecondDataProvider extends RecordingDataProvider {
+
+        private SecondDataProvider(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+            super(dataProviderSetting);
+        }
+
+        public static final class Factory implements DataProvider.Factory {
+
+            @Override
+            public Class<SecondDataProvider> getDataProviderClass() {
+                return SecondDataProvider.class;
+            }
+
+            @Override
+            public SecondDataProvider create(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+                return new SecondDataProvider(dataProviderSetting);
+            }
+        }
+    }
+}
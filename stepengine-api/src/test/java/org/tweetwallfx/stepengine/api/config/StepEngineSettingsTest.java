@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StepEngineSettingsTest {
+
+    @Test
+    void defaultsAreApplied() {
+        final StepEngineSettings settings = settings(null, null, null);
+
+        assertThat(settings.prepareTimeout()).isEqualTo(60L);
+        assertThat(settings.proceedSlack()).isEqualTo(60L);
+        assertThat(settings.maxStaleSkips()).isEqualTo(3);
+    }
+
+    @Test
+    void zeroValuesAreAcceptedWhereMeaningful() {
+        final StepEngineSettings settings = settings(1L, 0L, 0);
+
+        assertThat(settings.prepareTimeout()).isEqualTo(1L);
+        assertThat(settings.proceedSlack()).isZero();
+        assertThat(settings.maxStaleSkips()).isZero();
+    }
+
+    @Test
+    void invalidValuesAreRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> settings(0L, null, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> settings(null, -1L, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> settings(null, null, -1));
+    }
+
+    private static StepEngineSettings settings(final Long prepareTimeout, final Long proceedSlack, final Integer maxStaleSkips) {
+        return new StepEngineSettings(
+                List.of(),
+                null,
+                null,
+                null,
+                prepareTimeout,
+                null,
+                null,
+                null,
+                null,
+                null,
+                proceedSlack,
+                null,
+                maxStaleSkips,
+                null);
+    }
+}
@@ -27,27 +27,51 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import javafx.scene.image.Image;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.DecodedImageCache;
+import org.tweetwallfx.cache.ImagePreparationService;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
 import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.util.image.PerceptualHash;
+import org.tweetwallfx.util.image.PerceptualHashIndex;
 
-public class ImageMosaicDataProvider implements DataProvider.HistoryAware, DataProvider.NewTweetAware {
+/**
+ * Provides the most recent photos of tweets for an image mosaic.
+ *
+ * <p>
+ * Only the identity and timestamp of a photo are kept in memory. The photos
+ * themselves remain in the {@link PhotoImageCache} and are decoded at the size
+ * they are shown in when they are requested (see
+ * {@link ImageStore#getImage(double, double, java.util.function.Consumer)}).
+ */
+public class ImageMosaicDataProvider implements DataProvider.HistoryAware, DataProvider.NewTweetAware, DataProvider.Versioned {
 
     private static final Logger LOG = LoggerFactory.getLogger(ImageMosaicDataProvider.class);
-    private final CopyOnWriteArrayList<ImageStore> images = new CopyOnWriteArrayList<>();
+    private static final Comparator<ImageStore> BY_INSTANT = Comparator
+            .comparing(ImageStore::getInstant)
+            .thenComparing(ImageStore::getDigest);
+    private final Map<String, ImageStore> imagesByDigest = new HashMap<>();
+    private final NavigableSet<ImageStore> imagesByInstant = new TreeSet<>(BY_INSTANT);
+    private final PerceptualHashIndex perceptualHashes = new PerceptualHashIndex();
+    private final AtomicLong contentVersion = new AtomicLong();
     private final Config config;
 
     private ImageMosaicDataProvider(final Config config) {
@@ -72,22 +96,63 @@ public class ImageMosaicDataProvider implements DataProvider.HistoryAware, DataP
                 .forEach(mte -> addImage(mte, tweet.getCreatedAt()));
     }
 
-    public List<ImageStore> getImages() {
-        return Collections.<ImageStore>unmodifiableList(images);
+    @Override
+    public long getContentVersion() {
+        return contentVersion.get();
+    }
+
+    /**
+     * Retrieves the images currently available ordered from the oldest to the
+     * most recent one.
+     *
+     * @return a snapshot of the available images
+     */
+    public synchronized List<ImageStore> getImages() {
+        return List.copyOf(imagesByInstant);
     }
 
     private void addImage(final MediaTweetEntry mte, final LocalDateTime date) {
         PhotoImageCache.INSTANCE.getCachedOrLoad(mte, urlc -> {
-            if (images.addIfAbsent(new ImageStore(urlc, date.toInstant(ZoneOffset.UTC)))) {
-                LOG.info("Added ImageStore for mediaID: {}", mte.getId());
+            if (containsDigest(urlc.digest())) {
+                // exact duplicates do not need to be hashed
+                return;
             }
-            if (config.maxCacheSize() < images.size()) {
-                images.sort(Comparator.comparing(ImageStore::getInstant));
-                images.remove(0);
+
+            if (add(new ImageStore(urlc, date.toInstant(ZoneOffset.UTC)))) {
+                LOG.info("Added ImageStore for mediaID: {}", mte.getId());
+                contentVersion.incrementAndGet();
             }
         });
     }
 
+    private synchronized boolean containsDigest(final String digest) {
+        return imagesByDigest.containsKey(digest);
+    }
+
+    private synchronized boolean add(final ImageStore imageStore) {
+        if (imagesByDigest.containsKey(imageStore.getDigest())) {
+            return false;
+        }
+
+        if (imageStore.getPerceptualHash().isPresent()
+                && perceptualHashes.containsWithin(imageStore.getPerceptualHash().getAsLong(), config.nearDuplicateDistance())) {
+            LOG.info("Rejected near duplicate image with digest {}", imageStore.getDigest());
+            return false;
+        }
+
+        imagesByDigest.put(imageStore.getDigest(), imageStore);
+        imagesByInstant.add(imageStore);
+        imageStore.getPerceptualHash().ifPresent(perceptualHashes::add);
+
+        while (config.maxCacheSize() < imagesByInstant.size()) {
+            final ImageStore evicted = imagesByInstant.pollFirst();
+            imagesByDigest.remove(evicted.getDigest());
+            evicted.getPerceptualHash().ifPresent(perceptualHashes::remove);
+        }
+
+        return true;
+    }
+
     public static class FactoryImpl implements DataProvider.Factory {
 
         @Override
@@ -101,25 +166,51 @@ public class ImageMosaicDataProvider implements DataProvider.HistoryAware, DataP
         }
     }
 
+    /**
+     * POJO used to configure {@link ImageMosaicDataProvider}.
+     *
+     * <p>
+     * Param {@code includeRetweets} flag indicating whether photos of retweets
+     * are included. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code maxCacheSize} the maximum number of photos kept. Defaults to
+     * {@code 40}.
+     *
+     * <p>
+     * Param {@code nearDuplicateDistance} the maximum Hamming distance of the
+     * perceptual hashes of two photos up to which the newer one is rejected as
+     * near-duplicate. A negative value disables the detection. Defaults to
+     * {@link PerceptualHash#NEAR_DUPLICATE_DISTANCE}.
+     */
     public static record Config(
             Boolean includeRetweets,
-            Integer maxCacheSize) {
+            Integer maxCacheSize,
+            Integer nearDuplicateDistance) {
 
         public Config {
             includeRetweets = Objects.requireNonNullElse(includeRetweets, false);
             maxCacheSize = Objects.requireNonNullElse(maxCacheSize, 40);
+            nearDuplicateDistance = Objects.requireNonNullElse(nearDuplicateDistance, PerceptualHash.NEAR_DUPLICATE_DISTANCE);
         }
     }
 
+    /**
+     * A photo of the mosaic. The photo is identified by the digest of its
+     * content which is loaded from the {@link PhotoImageCache} only once the
+     * image is requested.
+     */
     public static final class ImageStore {
 
-        private final Image image;
+        private final String urlString;
         private final String digest;
+        private final OptionalLong perceptualHash;
         private final Instant instant;
 
         public ImageStore(final URLContent urlc, final Instant instant) {
+            this.urlString = urlc.urlString();
             this.digest = urlc.digest();
-            this.image = new Image(urlc.getInputStream());
+            this.perceptualHash = PerceptualHash.dHash(urlc.getInputStream());
             this.instant = instant;
         }
 
@@ -131,9 +222,52 @@ public class ImageMosaicDataProvider implements DataProvider.HistoryAware, DataP
             return instant;
         }
 
-        @SuppressFBWarnings
+        /**
+         * Returns the perceptual hash of the photo (see
+         * {@link PerceptualHash}) if it could be computed.
+         *
+         * @return the perceptual hash
+         */
+        public OptionalLong getPerceptualHash() {
+            return perceptualHash;
+        }
+
+        /**
+         * Retrieves the image in its original size, decoding it if necessary.
+         *
+         * @return the image
+         */
         public Image getImage() {
-            return image;
+            return DecodedImageCache.INSTANCE.get(PhotoImageCache.INSTANCE.getCachedOrLoad(urlString));
+        }
+
+        /**
+         * Retrieves the image scaled to fit into the given bounds without
+         * blocking. In case the image is not decoded yet {@code null} is
+         * returned and the image is handed to {@code whenReady} on the FX
+         * Platform thread once it has been decoded.
+         *
+         * @param width the width of the bounds to fit the image into
+         *
+         * @param height the height of the bounds to fit the image into
+         *
+         * @param whenReady the consumer of the image once it is ready
+         *
+         * @return the image or {@code null} in case it is not ready yet
+         */
+        public Image getImage(final double width, final double height, final Consumer<Image> whenReady) {
+            return ImagePreparationService.INSTANCE.getReadyOrPlaceholder(
+                    loadContent(),
+                    width,
+                    height,
+                    true,
+                    true,
+                    null,
+                    whenReady);
+        }
+
+        private CompletableFuture<URLContent> loadContent() {
+            return PhotoImageCache.INSTANCE.getCachedOrLoadAsync(urlString);
         }
 
         @Override
@@ -24,11 +24,13 @@
 package org.tweetwallfx.stepengine.dataproviders;
 
 import javafx.scene.image.Image;
+import org.tweetwallfx.cache.DecodedImageCache;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.util.Nullable;
 import org.tweetwallfx.util.ToString;
 import org.tweetwallfx.util.image.ExifData;
+import org.tweetwallfx.util.image.PerceptualHash;
 
 import java.io.InputStream;
 import java.time.Instant;
@@ -37,6 +39,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -66,8 +70,10 @@ public final class ImageStorage {
     private final Instant timestamp;
     private final Supplier<URLContent> urlContentSupplier;
     private final String digest;
+    private final OptionalLong perceptualHash;
     private final Map<String, Object> additionalInfo;
-    private final List<ExifData> exifDatas;
+    private final Set<String> exifTagNames;
+    private volatile List<ExifData> exifDatas;
 
     /**
      * Creates an ImageStorage instance based on the given parameters.
@@ -79,8 +85,10 @@ public final class ImageStorage {
         this.timestamp = Objects.requireNonNull(builder.timestamp, "timestamp must not be null");
         this.urlContentSupplier = Objects.requireNonNull(builder.urlContentSupplier, "urlContentSupplier must not be null");
         this.digest = Objects.requireNonNull(builder.digest, "digest must not be null");
+        this.perceptualHash = builder.perceptualHash;
         this.additionalInfo = Nullable.nullable(builder.additionalInfo);
-        this.exifDatas = Nullable.nullable(builder.exifDatas);
+        this.exifTagNames = builder.exifTagNames;
+        this.exifDatas = builder.exifDatas;
     }
 
     /**
@@ -98,7 +106,17 @@ public final class ImageStorage {
      * @return the {@link Image}
      */
     public Image getImage() {
-        return new Image(urlContentSupplier.get().getInputStream());
+        return DecodedImageCache.INSTANCE.get(digest, urlContentSupplier);
+    }
+
+    /**
+     * Returns the perceptual hash of the stored image (see
+     * {@link PerceptualHash}) if it could be computed.
+     *
+     * @return the perceptual hash
+     */
+    public OptionalLong getPerceptualHash() {
+        return perceptualHash;
     }
 
     /**
@@ -111,12 +129,31 @@ public final class ImageStorage {
     }
 
     /**
-     * Returns the EXIF Data of the stored image if it has any.
+     * Returns the EXIF Data of the stored image if it has any. Unless
+     * configured explicitly via {@link Builder#withExifTags(InputStream)} it
+     * is read upon the first call, restricted to the tags configured via
+     * {@link Builder#withExifTagNames(Set)}.
      *
      * @return the EXIF Data
      */
     public List<ExifData> getExifDatas() {
-        return Nullable.nullable(exifDatas);
+        List<ExifData> result = exifDatas;
+
+        if (null == result) {
+            synchronized (this) {
+                result = exifDatas;
+
+                if (null == result) {
+                    final InputStream inputStream = urlContentSupplier.get().getInputStream();
+                    result = null == exifTagNames
+                            ? ExifData.readFrom(inputStream)
+                            : ExifData.readFrom(inputStream, exifTagNames);
+                    exifDatas = result;
+                }
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -143,7 +180,7 @@ public final class ImageStorage {
      * {@link Optional} if none was found
      */
     public Optional<String> locateOptionalExifData(final String directory, final String tagName) {
-        return ExifData.locateOptional(exifDatas, directory, tagName);
+        return ExifData.locateOptional(getExifDatas(), directory, tagName);
     }
 
     @Override
@@ -193,8 +230,10 @@ public final class ImageStorage {
         private final Instant timestamp;
         private Supplier<URLContent> urlContentSupplier;
         private String digest;
+        private OptionalLong perceptualHash = OptionalLong.empty();
         private Map<String, Object> additionalInfo = Map.of();
-        private List<ExifData> exifDatas = List.of();
+        private Set<String> exifTagNames;
+        private List<ExifData> exifDatas;
 
         private Builder(final Instant timestamp) {
             this.timestamp = Objects.requireNonNull(timestamp, "timestamp must not be null");
@@ -210,24 +249,22 @@ public final class ImageStorage {
             return new ImageStorage(this);
         }
 
-        public Builder from(final Supplier<URLContent> urlContentSupplier) {
-            this.urlContentSupplier = Objects.requireNonNull(urlContentSupplier, "urlContentSupplier must not be null");
-            return from(urlContentSupplier.get());
-        }
-
         /**
-         * Uses the {@link URLContent} to configures the
-         * {@link #from(URLContent) image data source}, {@link #withExifTags(java.io.InputStream) EXIF data}
-         * and the {@link #withDigest(java.lang.String) digest} using
-         * {@link URLContent#getInputStream()} and {@link URLContent#digest()}
-         * respectifely.
+         * Configures the image data source. The {@code urlContentSupplier} is
+         * invoked once to configure the
+         * {@link #withDigest(java.lang.String) digest} and the
+         * {@link #withPerceptualHash(java.io.InputStream) perceptual hash}.
+         * The EXIF data is read from the image data source only once it is
+         * {@link ImageStorage#getExifDatas() accessed}.
          *
-         * @param urlc the {@link URLContent}
+         * @param urlContentSupplier the supplier of the image data source
          *
          * @return this builder instance
          */
-        private Builder from(final URLContent urlc) {
-            return withExifTags(urlc.getInputStream())
+        public Builder from(final Supplier<URLContent> urlContentSupplier) {
+            this.urlContentSupplier = Objects.requireNonNull(urlContentSupplier, "urlContentSupplier must not be null");
+            final URLContent urlc = urlContentSupplier.get();
+            return withPerceptualHash(urlc.getInputStream())
                     .withDigest(urlc.digest());
         }
 
@@ -261,9 +298,25 @@ public final class ImageStorage {
             return this;
         }
 
+        /**
+         * Attempts to compute the perceptual hash of the image contained
+         * within the given stream.
+         *
+         * Note that the {@link InputStream inputStream} is consumed eagerly.
+         *
+         * @param inputStream the image data source
+         *
+         * @return this builder instance
+         */
+        public Builder withPerceptualHash(final InputStream inputStream) {
+            this.perceptualHash = PerceptualHash.dHash(inputStream);
+            return this;
+        }
+
         /**
          * Attempts to read EXIF Data from the given stream and stores it for
-         * evaluation.
+         * evaluation. In case {@link #withExifTagNames(Set) tag names} have
+         * been configured before only those tags are read.
          *
          * Note that the {@link InputStream inputStream} is consumed eagerly.
          *
@@ -272,7 +325,22 @@ public final class ImageStorage {
          * @return this builder instance
          */
         public Builder withExifTags(final InputStream inputStream) {
-            this.exifDatas = ExifData.readFrom(inputStream);
+            this.exifDatas = null == exifTagNames
+                    ? ExifData.readFrom(inputStream)
+                    : ExifData.readFrom(inputStream, exifTagNames);
+            return this;
+        }
+
+        /**
+         * Restricts the EXIF data read for the {@link ImageStorage} instance
+         * to the tags with the given names. By default all tags are read.
+         *
+         * @param exifTagNames the names of the tags to read
+         *
+         * @return this builder instance
+         */
+        public Builder withExifTagNames(final Set<String> exifTagNames) {
+            this.exifTagNames = Set.copyOf(exifTagNames);
             return this;
         }
     }
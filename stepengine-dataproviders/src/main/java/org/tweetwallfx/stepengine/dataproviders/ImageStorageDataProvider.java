@@ -27,16 +27,20 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.SequencedSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.util.image.PerceptualHash;
+import org.tweetwallfx.util.image.PerceptualHashIndex;
 
 /**
  * DataProvider handling {@link ImageStorage} instances of possibly multiple
@@ -56,7 +60,23 @@ public interface ImageStorageDataProvider extends DataProvider {
      * @param additionalInfo additional info for the stored image
      */
     default void add(final Supplier<URLContent> ucs, final Instant instant, final Map<String, Object> additionalInfo) {
-        add(ImageStorage.builder(instant).from(ucs).withAdditionalInfo(additionalInfo).build());
+        final ImageStorage.Builder builder = ImageStorage.builder(instant).from(ucs).withAdditionalInfo(additionalInfo);
+        getExifTagNames().ifPresent(builder::withExifTagNames);
+        add(builder.build());
+    }
+
+    /**
+     * Returns the names of the EXIF tags read for the images added via
+     * {@link #add(java.util.function.Supplier, java.time.Instant, java.util.Map)}
+     * (see {@link ImageStorage.Builder#withExifTagNames(java.util.Set)}).
+     *
+     * By Default this method returns an empty {@link Optional} so all tags
+     * are read.
+     *
+     * @return the names of the EXIF tags to read
+     */
+    default Optional<Set<String>> getExifTagNames() {
+        return Optional.empty();
     }
 
     /**
@@ -157,10 +177,12 @@ public interface ImageStorageDataProvider extends DataProvider {
      * the MediaEntry elements of a Twitter message (i.e. the image posted via
      * the Twitter message).
      */
-    static abstract class Base implements ImageStorageDataProvider {
+    static abstract class Base implements ImageStorageDataProvider, DataProvider.Versioned {
 
         private static final Logger LOG = LoggerFactory.getLogger(Base.class);
         private final Map<String, SequencedSet<ImageStorage>> categorizedImageStorages = new ConcurrentHashMap<>();
+        private final Map<String, PerceptualHashIndex> categorizedPerceptualHashes = new ConcurrentHashMap<>();
+        private final AtomicLong contentVersion = new AtomicLong();
         private final int maxCacheSize;
 
         /**
@@ -175,20 +197,38 @@ public interface ImageStorageDataProvider extends DataProvider {
         @Override
         public final void add(final ImageStorage imageStorage) {
             final SequencedSet<ImageStorage> imageStorages = getImageStorages(imageStorage.getCategory());
+            final PerceptualHashIndex perceptualHashes = getPerceptualHashes(imageStorage.getCategory());
             final int determinedMaxCacheSize = determineMaxCacheSize(imageStorage.getCategory());
+            final int determinedNearDuplicateDistance = determineNearDuplicateDistance(imageStorage.getCategory());
 
-            if (imageStorages.add(imageStorage)) {
-                LOG.info("Added {}", imageStorage);
+            // the hash index has to be kept in sync with the stored images
+            synchronized (perceptualHashes) {
+                if (imageStorage.getPerceptualHash().isPresent()
+                        && perceptualHashes.containsWithin(imageStorage.getPerceptualHash().getAsLong(), determinedNearDuplicateDistance)) {
+                    LOG.info("Rejected near duplicate {}", imageStorage);
+                    return;
+                }
+
+                if (imageStorages.add(imageStorage)) {
+                    LOG.info("Added {}", imageStorage);
+                    imageStorage.getPerceptualHash().ifPresent(perceptualHashes::add);
+                    contentVersion.incrementAndGet();
 
-                while (determinedMaxCacheSize < imageStorages.size()) {
-                    // remove last since comparator is sorting by DESC timestamp
-                    // thus the oldest and thus smallest value is at the end
-                    // and we keep the newest entries only
-                    imageStorages.removeLast();
+                    while (determinedMaxCacheSize < imageStorages.size()) {
+                        // remove last since comparator is sorting by DESC timestamp
+                        // thus the oldest and thus smallest value is at the end
+                        // and we keep the newest entries only
+                        imageStorages.removeLast().getPerceptualHash().ifPresent(perceptualHashes::remove);
+                    }
                 }
             }
         }
 
+        @Override
+        public final long getContentVersion() {
+            return contentVersion.get();
+        }
+
         @Override
         public final Access getAccess(final String category) {
             return new Access() {
@@ -227,6 +267,28 @@ public interface ImageStorageDataProvider extends DataProvider {
             return maxCacheSize;
         }
 
+        /**
+         * Determines the maximum Hamming distance of the perceptual hashes of
+         * two images of the given {@code category} up to which the images are
+         * considered to be near-duplicates of each other. A new image being a
+         * near-duplicate of a stored one is not stored. By default every
+         * category uses {@link PerceptualHash#NEAR_DUPLICATE_DISTANCE}. A
+         * negative distance disables the detection of near-duplicates.
+         *
+         * @param category the category for the determination
+         *
+         * @return the determined maximum distance for the category
+         */
+        protected int determineNearDuplicateDistance(final String category) {
+            return PerceptualHash.NEAR_DUPLICATE_DISTANCE;
+        }
+
+        private PerceptualHashIndex getPerceptualHashes(final String category) {
+            return categorizedPerceptualHashes.computeIfAbsent(
+                    category,
+                    cat -> new PerceptualHashIndex());
+        }
+
         private final SequencedSet<ImageStorage> getImageStorages(final String category) {
             Objects.requireNonNull(category, "category must not be null");
             return categorizedImageStorages.computeIfAbsent(
@@ -25,6 +25,7 @@ package org.tweetwallfx.stepengine.dataproviders;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.LoadPriority;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.cache.URLContentCacheBase;
 import org.tweetwallfx.tweet.api.Tweet;
@@ -34,6 +35,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -67,7 +69,8 @@ public final class PhotoImageCache extends URLContentCacheBase {
 
     public void addToCacheAsync(final MediaTweetEntry mte) {
         getCachedOrLoad(
-                mte,
+                getImageUrlString(mte),
+                LoadPriority.PREFETCH,
                 this::handleLoadedContent);
     }
 
@@ -75,6 +78,18 @@ public final class PhotoImageCache extends URLContentCacheBase {
         return getCachedOrLoad(getImageUrlString(mte));
     }
 
+    /**
+     * Retrieves the content of the photo of {@code mte} asynchronously.
+     *
+     * @param mte the media entry of the photo
+     *
+     * @return the future of the content, being already completed in case the
+     * content is cached
+     */
+    public CompletableFuture<URLContent> getCachedAsync(final MediaTweetEntry mte) {
+        return getCachedOrLoadAsync(getImageUrlString(mte));
+    }
+
     public void getCachedOrLoad(final MediaTweetEntry mte, final Consumer<URLContent> consumer) {
         getCachedOrLoad(
                 getImageUrlString(mte),
@@ -24,11 +24,15 @@
 package org.tweetwallfx.stepengine.dataproviders;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import javafx.scene.image.Image;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.DecodedImageCache;
+import org.tweetwallfx.cache.ImagePreparationService;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.tweet.api.Tweet;
@@ -38,6 +42,7 @@ import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
 public class PhotoImageMediaEntryDataProvider implements DataProvider.HistoryAware, DataProvider.NewTweetAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(PhotoImageMediaEntryDataProvider.class);
+    private static final int PLACEHOLDER_WIDTH = 64;
     private final Config config;
 
     private PhotoImageMediaEntryDataProvider(final Config config) {
@@ -45,9 +50,38 @@ public class PhotoImageMediaEntryDataProvider implements DataProvider.HistoryAwa
     }
 
     public Image getImage(final MediaTweetEntry mte) {
-        return new Image(PhotoImageCache.INSTANCE
-                .getCached(mte)
-                .getInputStream());
+        return DecodedImageCache.INSTANCE.get(PhotoImageCache.INSTANCE.getCached(mte));
+    }
+
+    /**
+     * Retrieves the image of the photo of {@code mte} without blocking. In
+     * case the image is not ready yet a transparent placeholder with the
+     * aspect ratio of the photo is returned and the image is handed to
+     * {@code whenReady} on the FX Platform thread once it has been prepared.
+     *
+     * @param mte the media entry of the photo
+     *
+     * @param whenReady the consumer of the image once it is ready
+     *
+     * @return the image or its placeholder
+     */
+    public Image getImage(final MediaTweetEntry mte, final Consumer<Image> whenReady) {
+        return ImagePreparationService.INSTANCE.getReadyOrPlaceholder(
+                PhotoImageCache.INSTANCE.getCachedAsync(mte),
+                createPlaceholder(mte),
+                whenReady);
+    }
+
+    private static Image createPlaceholder(final MediaTweetEntry mte) {
+        return mte.getSizes().entrySet().stream()
+                .max(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .filter(size -> size.getWidth() > 0 && size.getHeight() > 0)
+                // only the aspect ratio matters as the photo is scaled to fit anyway
+                .map(size -> ImagePreparationService.placeholder(
+                        PLACEHOLDER_WIDTH,
+                        (int) Math.round((double) PLACEHOLDER_WIDTH * size.getHeight() / size.getWidth())))
+                .orElse(null);
     }
 
     @Override
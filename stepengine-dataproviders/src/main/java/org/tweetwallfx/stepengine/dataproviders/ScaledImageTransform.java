@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.tweetwallfx.cache.ContentTransform;
+import org.tweetwallfx.cache.URLContent;
+
+/**
+ * A {@link ContentTransform} downscaling image content to fit into the given
+ * dimensions. The scaled image is encoded in the format of the original so
+ * that e.g. JPEG photos do not grow by being stored as PNG. Only in case no
+ * writer for that format is available it is encoded as PNG. Images already
+ * fitting into the dimensions are kept as they are.
+ *
+ * <p>
+ * Param {@code width} the maximum width of the scaled image
+ *
+ * <p>
+ * Param {@code height} the maximum height of the scaled image
+ *
+ * <p>
+ * Param {@code preserveRatio} flag indicating whether the aspect ratio of the
+ * image is to be preserved when scaling it
+ *
+ * <p>
+ * Param {@code smooth} flag indicating whether a better quality filtering
+ * algorithm is to be used when scaling the image
+ */
+public record ScaledImageTransform(
+        int width,
+        int height,
+        boolean preserveRatio,
+        boolean smooth) implements ContentTransform {
+
+    public ScaledImageTransform {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be positive");
+        }
+    }
+
+    /**
+     * Creates the name of the variant computed by this transform.
+     *
+     * @return the name of the variant
+     */
+    public String variantName() {
+        return "scaled-" + width + 'x' + height + (preserveRatio ? "" : "-stretched") + (smooth ? "-smooth" : "");
+    }
+
+    @Override
+    public byte[] transform(final URLContent content) throws IOException {
+        final BufferedImage image;
+        final String formatName;
+
+        try (ImageInputStream in = ImageIO.createImageInputStream(content.getInputStream())) {
+            final Iterator<ImageReader> readers = null == in
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(in);
+
+            if (!readers.hasNext()) {
+                throw new IOException("Content of " + content.urlString() + " is not a readable image");
+            }
+
+            final ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(in, true, true);
+                formatName = reader.getFormatName();
+                image = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        final BufferedImage scaled = scale(image);
+
+        if (scaled == image) {
+            try (InputStream in = content.getInputStream()) {
+                return in.readAllBytes();
+            }
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if (!ImageIO.write(scaled, formatName, out)) {
+            out.reset();
+            ImageIO.write(scaled, "png", out);
+        }
+
+        return out.toByteArray();
+    }
+
+    private BufferedImage scale(final BufferedImage image) {
+        double scaleX = Math.min(1.0, (double) width / image.getWidth());
+        double scaleY = Math.min(1.0, (double) height / image.getHeight());
+
+        if (preserveRatio) {
+            scaleX = scaleY = Math.min(scaleX, scaleY);
+        }
+
+        final int scaledWidth = Math.max(1, (int) Math.round(image.getWidth() * scaleX));
+        final int scaledHeight = Math.max(1, (int) Math.round(image.getHeight() * scaleY));
+
+        if (scaledWidth == image.getWidth() && scaledHeight == image.getHeight()) {
+            return image;
+        }
+
+        final BufferedImage scaled = new BufferedImage(scaledWidth, scaledHeight, image.getColorModel().hasAlpha()
+                ? BufferedImage.TYPE_INT_ARGB
+                : BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = scaled.createGraphics();
+
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, smooth
+                    ? RenderingHints.VALUE_INTERPOLATION_BICUBIC
+                    : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(image, 0, 0, scaledWidth, scaledHeight, null);
+        } finally {
+            g.dispose();
+        }
+
+        return scaled;
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javafx.scene.image.Image;
@@ -49,7 +50,7 @@ import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
  * Provides an always current list of tweets based on the configured query. The
  * history length is not yet configurable.
  */
-public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
+public class TweetStreamDataProvider implements DataProvider.NewTweetAware, DataProvider.Versioned {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TweetStreamDataProvider.class);
     private final ReadWriteLock tweetListLock = new ReentrantReadWriteLock();
@@ -58,6 +59,7 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
             .query();
     private volatile Image latestTweetedImage;
     private volatile Deque<Tweet> tweets = new ArrayDeque<>();
+    private final AtomicLong contentVersion = new AtomicLong();
     private final Config config;
 
     private TweetStreamDataProvider(final Config config) {
@@ -115,6 +117,7 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
                 } else {
                     tweets.addLast(originalTweet);
                 }
+                contentVersion.incrementAndGet();
             }
 
             if (tweets.size() > config.maxTweets()) {
@@ -125,6 +128,11 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
         }
     }
 
+    @Override
+    public long getContentVersion() {
+        return contentVersion.get();
+    }
+
     public Optional<Image> getLatestImage() {
         return Optional.ofNullable(latestTweetedImage);
     }
@@ -24,10 +24,14 @@
 package org.tweetwallfx.stepengine.dataproviders;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 import javafx.scene.image.Image;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.DecodedImageCache;
+import org.tweetwallfx.cache.ImagePreparationService;
+import org.tweetwallfx.cache.LoadPriority;
 import org.tweetwallfx.cache.URLContent;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
@@ -38,14 +42,23 @@ public class TweetUserProfileImageDataProvider implements DataProvider.HistoryAw
 
     private static final Logger LOG = LoggerFactory.getLogger(TweetUserProfileImageDataProvider.class);
     private final Config config;
+    private final String variant;
 
     private TweetUserProfileImageDataProvider(final Config config) {
         this.config = config;
+        // profile images are only ever shown scaled so the scaled variant is cached along the original
+        final ScaledImageTransform transform = new ScaledImageTransform(
+                config.profileWidth(),
+                config.profileHeight(),
+                config.preserveRatio(),
+                config.smooth());
+        this.variant = transform.variantName();
+        ProfileImageCache.INSTANCE.registerVariant(variant, transform);
     }
 
     public Image getImage(final User user) {
-        return new Image(
-                ProfileImageCache.INSTANCE.getCachedOrLoad(user.getProfileImageUrl()).getInputStream(),
+        return DecodedImageCache.INSTANCE.get(
+                ProfileImageCache.INSTANCE.getVariant(user.getProfileImageUrl(), variant),
                 config.profileWidth(),
                 config.profileHeight(),
                 config.preserveRatio(),
@@ -53,14 +66,37 @@ public class TweetUserProfileImageDataProvider implements DataProvider.HistoryAw
     }
 
     public Image getImageBig(final User user) {
-        return new Image(
-                ProfileImageCache.INSTANCE.getCachedOrLoad(user.getBiggerProfileImageUrl()).getInputStream(),
+        return DecodedImageCache.INSTANCE.get(
+                ProfileImageCache.INSTANCE.getVariant(user.getBiggerProfileImageUrl(), variant),
                 config.profileWidth(),
                 config.profileHeight(),
                 config.preserveRatio(),
                 config.smooth());
     }
 
+    /**
+     * Retrieves the big profile image of the {@code user} without blocking.
+     * In case the image is not ready yet a transparent placeholder of the
+     * configured size is returned and the image is handed to
+     * {@code whenReady} on the FX Platform thread once it has been prepared.
+     *
+     * @param user the user whose profile image to get
+     *
+     * @param whenReady the consumer of the image once it is ready
+     *
+     * @return the image or its placeholder
+     */
+    public Image getImageBig(final User user, final Consumer<Image> whenReady) {
+        return ImagePreparationService.INSTANCE.getReadyOrPlaceholder(
+                ProfileImageCache.INSTANCE.getVariantAsync(user.getBiggerProfileImageUrl(), variant, LoadPriority.FOREGROUND),
+                config.profileWidth(),
+                config.profileHeight(),
+                config.preserveRatio(),
+                config.smooth(),
+                ImagePreparationService.placeholder(config.profileWidth(), config.profileHeight()),
+                whenReady);
+    }
+
     @Override
     public void processHistoryTweet(final Tweet tweet) {
         processTweet(tweet);
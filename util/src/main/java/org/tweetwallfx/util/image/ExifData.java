@@ -26,6 +26,8 @@ package org.tweetwallfx.util.image;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +60,26 @@ public record ExifData(String directory, String name, int type, String value, St
      * @return the read EXIF data entries or an empty list if none could be read
      */
     public static List<ExifData> readFrom(final InputStream inputStream) {
+        return readFrom(inputStream, tagName -> true);
+    }
+
+    /**
+     * Attempts to read the EXIF meta data entries with one of the given
+     * {@code tagNames} from the image contained within the given
+     * {@code inputStream}. Entries of other tags are skipped without
+     * determining their value and description.
+     *
+     * @param inputStream the {@link InputStream} to read from
+     *
+     * @param tagNames the names of the tags to read
+     *
+     * @return the read EXIF data entries or an empty list if none could be read
+     */
+    public static List<ExifData> readFrom(final InputStream inputStream, final Set<String> tagNames) {
+        return readFrom(inputStream, tagNames::contains);
+    }
+
+    private static List<ExifData> readFrom(final InputStream inputStream, final Predicate<String> tagNameFilter) {
         final Metadata metadata;
 
         try (InputStream is = inputStream) {
@@ -69,15 +91,17 @@ public record ExifData(String directory, String name, int type, String value, St
 
         return StreamSupport.stream(metadata.getDirectories().spliterator(), false)
                 .flatMap(
-                        d -> d.getTags().stream().map(
-                                t -> new ExifData(
-                                        t.getDirectoryName(),
-                                        t.getTagName(),
-                                        t.getTagType(),
-                                        d.getString(t.getTagType()),
-                                        t.getDescription()
+                        d -> d.getTags().stream()
+                                .filter(t -> tagNameFilter.test(t.getTagName()))
+                                .map(
+                                        t -> new ExifData(
+                                                t.getDirectoryName(),
+                                                t.getTagName(),
+                                                t.getTagType(),
+                                                d.getString(t.getTagType()),
+                                                t.getDescription()
+                                        )
                                 )
-                        )
                 )
                 .toList();
     }
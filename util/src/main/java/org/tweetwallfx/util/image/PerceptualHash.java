@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.OptionalLong;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Perceptual hashing of images. The difference hash (dHash) computed here
+ * compares the brightness of horizontally adjacent cells of a 9x8 grid laid
+ * over the image. Since it only depends on the coarse structure of the image
+ * the hashes of a resized or re-compressed copy of an image differ in few
+ * bits only, so near-duplicates can be found via the Hamming distance of
+ * their hashes (see {@link PerceptualHashIndex}).
+ */
+public final class PerceptualHash {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerceptualHash.class);
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+    // decoding at a few pixels per grid cell is sufficient for averaging
+    private static final int PIXELS_PER_CELL = 8;
+
+    /**
+     * The maximum Hamming distance up to which the hashes of two images
+     * indicate that the images are near-duplicates of each other.
+     */
+    public static final int NEAR_DUPLICATE_DISTANCE = 6;
+
+    private PerceptualHash() {
+        // prevent instantiation
+    }
+
+    /**
+     * Computes the difference hash of the image contained within the given
+     * {@code inputStream}. The image is decoded subsampled to the resolution
+     * required for hashing.
+     *
+     * @param inputStream the {@link InputStream} to read from
+     *
+     * @return the hash or an empty {@link OptionalLong} in case the image
+     * cannot be read
+     */
+    public static OptionalLong dHash(final InputStream inputStream) {
+        try (InputStream is = inputStream;
+                ImageInputStream iis = ImageIO.createImageInputStream(is)) {
+            final Iterator<ImageReader> readers = null == iis
+                    ? null
+                    : ImageIO.getImageReaders(iis);
+
+            if (null == readers || !readers.hasNext()) {
+                LOG.debug("No image reader available to compute perceptual hash");
+                return OptionalLong.empty();
+            }
+
+            final ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(iis, true, true);
+                final int subsampling = Math.max(1, Math.min(
+                        reader.getWidth(0) / (GRID_WIDTH * PIXELS_PER_CELL),
+                        reader.getHeight(0) / (GRID_HEIGHT * PIXELS_PER_CELL)));
+                final ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return OptionalLong.of(dHash(reader.read(0, param)));
+            } finally {
+                reader.dispose();
+            }
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("Failed to compute perceptual hash", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Computes the difference hash of the given {@code image}.
+     *
+     * @param image the image to hash
+     *
+     * @return the hash
+     */
+    public static long dHash(final BufferedImage image) {
+        final long[] luminance = new long[GRID_WIDTH * GRID_HEIGHT];
+        final int[] pixels = new int[GRID_WIDTH * GRID_HEIGHT];
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+
+        for (int y = 0; y < height; y++) {
+            final int row = (int) ((long) y * GRID_HEIGHT / height) * GRID_WIDTH;
+
+            for (int x = 0; x < width; x++) {
+                final int cell = row + (int) ((long) x * GRID_WIDTH / width);
+                final int rgb = image.getRGB(x, y);
+                luminance[cell] += 299L * ((rgb >> 16) & 0xff) + 587L * ((rgb >> 8) & 0xff) + 114L * (rgb & 0xff);
+                pixels[cell]++;
+            }
+        }
+
+        long hash = 0;
+
+        for (int y = 0; y < GRID_HEIGHT; y++) {
+            for (int x = 0; x < GRID_WIDTH - 1; x++) {
+                final int cell = y * GRID_WIDTH + x;
+                hash <<= 1;
+
+                // compare averages without division: l1 / p1 < l2 / p2
+                if (luminance[cell] * pixels[cell + 1] < luminance[cell + 1] * pixels[cell]) {
+                    hash |= 1;
+                }
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Computes the Hamming distance of two hashes, i.e. the number of bits
+     * they differ in.
+     *
+     * @param hash1 the first hash
+     *
+     * @param hash2 the second hash
+     *
+     * @return the distance of the hashes
+     */
+    public static int distance(final long hash1, final long hash2) {
+        return Long.bitCount(hash1 ^ hash2);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util.image;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Index of perceptual hashes (see {@link PerceptualHash}) supporting the
+ * lookup of hashes within a maximum Hamming distance.
+ *
+ * <p>
+ * The index is a BK-tree: every child of a node is stored at the distance of
+ * its hash to the hash of the node. Due to the triangle inequality a lookup
+ * only has to descend into the children whose distance is within the
+ * maximum distance of the distance between the node and the searched hash,
+ * so only a small part of the tree is visited for small maximum distances.
+ *
+ * <p>
+ * Removed hashes are only marked as such and the tree is rebuilt from the
+ * contained hashes once the removed ones outnumber them.
+ */
+public final class PerceptualHashIndex {
+
+    private Node root;
+    private int size;
+    private int removedNodes;
+
+    /**
+     * Adds the {@code hash} to this index. A hash may be added multiple times
+     * in which case it has to be removed as often.
+     *
+     * @param hash the hash to add
+     */
+    public synchronized void add(final long hash) {
+        size++;
+
+        if (null == root) {
+            root = new Node(hash);
+            return;
+        }
+
+        Node node = root;
+
+        while (true) {
+            final int distance = PerceptualHash.distance(node.hash, hash);
+
+            if (0 == distance) {
+                if (0 == node.count++) {
+                    removedNodes--;
+                }
+
+                return;
+            }
+
+            final Node child = node.child(distance);
+
+            if (null == child) {
+                node.setChild(distance, new Node(hash));
+                return;
+            }
+
+            node = child;
+        }
+    }
+
+    /**
+     * Removes the {@code hash} from this index.
+     *
+     * @param hash the hash to remove
+     *
+     * @return {@code true} in case the hash was contained in this index
+     */
+    public synchronized boolean remove(final long hash) {
+        Node node = root;
+
+        while (null != node) {
+            final int distance = PerceptualHash.distance(node.hash, hash);
+
+            if (0 == distance) {
+                if (0 == node.count) {
+                    return false;
+                }
+
+                size--;
+
+                if (0 == --node.count && ++removedNodes > size) {
+                    rebuild();
+                }
+
+                return true;
+            }
+
+            node = node.child(distance);
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if this index contains a hash within {@code maxDistance} of the
+     * given {@code hash}.
+     *
+     * @param hash the hash to look up
+     *
+     * @param maxDistance the maximum Hamming distance of a matching hash
+     *
+     * @return {@code true} in case a hash within the distance is contained
+     */
+    public synchronized boolean containsWithin(final long hash, final int maxDistance) {
+        if (null == root) {
+            return false;
+        }
+
+        final Deque<Node> candidates = new ArrayDeque<>();
+        candidates.push(root);
+
+        while (!candidates.isEmpty()) {
+            final Node node = candidates.pop();
+            final int distance = PerceptualHash.distance(node.hash, hash);
+
+            if (distance <= maxDistance && 0 < node.count) {
+                return true;
+            }
+
+            if (null != node.children) {
+                for (int d = Math.max(1, distance - maxDistance); d <= Math.min(Long.SIZE, distance + maxDistance); d++) {
+                    final Node child = node.children[d];
+
+                    if (null != child) {
+                        candidates.push(child);
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of hashes contained in this index.
+     *
+     * @return the number of contained hashes
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void rebuild() {
+        final List<Node> nodes = new ArrayList<>(size);
+        final Deque<Node> pending = new ArrayDeque<>();
+
+        if (null != root) {
+            pending.push(root);
+        }
+
+        while (!pending.isEmpty()) {
+            final Node node = pending.pop();
+
+            if (0 < node.count) {
+                nodes.add(node);
+            }
+
+            if (null != node.children) {
+                for (final Node child : node.children) {
+                    if (null != child) {
+                        pending.push(child);
+                    }
+                }
+            }
+        }
+
+        root = null;
+        size = 0;
+        removedNodes = 0;
+
+        for (final Node node : nodes) {
+            for (int i = 0; i < node.count; i++) {
+                add(node.hash);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final long hash;
+        private int count = 1;
+        // indexed by distance, allocated with the first child
+        private Node[] children;
+
+        private Node(final long hash) {
+            this.hash = hash;
+        }
+
+        private Node child(final int distance) {
+            return null == children ? null : children[distance];
+        }
+
+        private void setChild(final int distance, final Node child) {
+            if (null == children) {
+                children = new Node[Long.SIZE + 1];
+            }
+
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashIndexTest {
+
+    private final PerceptualHashIndex index = new PerceptualHashIndex();
+
+    @Test
+    void findsHashesWithinDistance() {
+        index.add(0b1111_0000L);
+        index.add(0xFFFF_FFFF_0000_0000L);
+
+        assertThat(index.containsWithin(0b1111_0011L, 2)).isTrue();
+        assertThat(index.containsWithin(0b1111_0111L, 2)).isFalse();
+        assertThat(index.containsWithin(0xFFFF_FFFF_0000_000FL, 4)).isTrue();
+        assertThat(index.containsWithin(0x0F0F_0F0F_0F0F_0F0FL, 6)).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removedHashesAreNotFound() {
+        index.add(1L);
+        index.add(1L);
+        index.add(3L);
+
+        assertThat(index.remove(1L)).isTrue();
+        assertThat(index.containsWithin(1L, 0)).isTrue();
+        assertThat(index.remove(1L)).isTrue();
+        assertThat(index.containsWithin(1L, 0)).isFalse();
+        assertThat(index.remove(1L)).isFalse();
+        assertThat(index.containsWithin(1L, 1)).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void matchesLinearSearchAcrossRebuilds() {
+        final Random random = new Random(42);
+        final List<Long> hashes = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            final long hash = random.nextLong();
+            hashes.add(hash);
+            index.add(hash);
+
+            if (i % 3 == 0) {
+                index.remove(hashes.remove(random.nextInt(hashes.size())));
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            final long probe = random.nextBoolean()
+                    ? hashes.get(random.nextInt(hashes.size())) ^ (1L << random.nextInt(Long.SIZE))
+                    : random.nextLong();
+            final boolean expected = hashes.stream()
+                    .anyMatch(hash -> PerceptualHash.distance(hash, probe) <= 20);
+
+            assertThat(index.containsWithin(probe, 20)).isEqualTo(expected);
+        }
+
+        assertThat(index.size()).isEqualTo(hashes.size());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashTest {
+
+    @Test
+    void resizedAndRecompressedImagesAreNearDuplicates() throws IOException {
+        final BufferedImage original = createImage(640, 480, Color.BLUE, Color.YELLOW);
+        final long hash = PerceptualHash.dHash(encode(original, "png")).orElseThrow();
+
+        assertThat(PerceptualHash.dHash(encode(resize(original, 200, 150), "jpg")).orElseThrow())
+                .satisfies(resizedHash -> assertThat(PerceptualHash.distance(hash, resizedHash))
+                        .isLessThanOrEqualTo(PerceptualHash.NEAR_DUPLICATE_DISTANCE));
+    }
+
+    @Test
+    void differentImagesAreNoNearDuplicates() throws IOException {
+        final long hash = PerceptualHash.dHash(encode(createImage(640, 480, Color.BLUE, Color.YELLOW), "png")).orElseThrow();
+        final long otherHash = PerceptualHash.dHash(encode(createImage(640, 480, Color.YELLOW, Color.BLUE), "png")).orElseThrow();
+
+        assertThat(PerceptualHash.distance(hash, otherHash)).isGreaterThan(PerceptualHash.NEAR_DUPLICATE_DISTANCE);
+    }
+
+    @Test
+    void unreadableContentHasNoHash() {
+        assertThat(PerceptualHash.dHash(new ByteArrayInputStream(new byte[]{1, 2, 3}))).isEmpty();
+    }
+
+    private static BufferedImage createImage(final int width, final int height, final Color from, final Color to) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, from, width, height, to));
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.RED);
+        g.fillOval(width / 4, height / 4, width / 3, height / 2);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage resize(final BufferedImage image, final int width, final int height) {
+        final BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = resized.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return resized;
+    }
+
+    private static InputStream encode(final BufferedImage image, final String formatName) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}